@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.engine;
+
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.LogUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+
+/**
+ * <p>AllocationMeter measures the bytes allocated by each
+ * {@link LeetcodeInvoker#invoke(Object, Object...)} call, based on
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.</p>
+ *
+ * <p>The measured bytes are attached to the {@link InvocationOutcome},
+ * and a successful invocation allocating more than the memory budget is
+ * flagged as {@link InvocationOutcome.Status#MEMORY_LIMIT_EXCEEDED}.</p>
+ *
+ * <p>When the JVM does not support thread allocation measurement,
+ * the invocations are not measured and never flagged.
+ * See {@link #isSupported()}.</p>
+ *
+ * <p>Note: the allocated bytes are the total allocations of the
+ * invoking thread, not the retained heap, and they are measured
+ * on the thread that performs the invocation.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class AllocationMeter {
+
+    /**
+     * The memory budget bytes, 0 for unlimited.
+     */
+    private final long budgetBytes;
+
+    /**
+     * Create an AllocationMeter.
+     *
+     * @param budgetBytes the memory budget bytes per invocation, 0 for unlimited.
+     */
+    public AllocationMeter(long budgetBytes) {
+        AssertUtil.isTrue(budgetBytes >= 0, "The memory budget cannot be negative.");
+        this.budgetBytes = budgetBytes;
+        if (!isSupported()) {
+            LogUtil.logW("The thread allocation measurement is not supported, the allocated bytes are not measured.");
+        }
+    }
+
+    /**
+     * Check if the thread allocation measurement is supported.
+     *
+     * @return true if supported.
+     */
+    public static boolean isSupported() {
+        return Objects.nonNull(BeanHolder.BEAN);
+    }
+
+    /**
+     * Get the total bytes allocated by the current thread.
+     *
+     * @return the allocated bytes, -1 if not supported.
+     */
+    public static long currentThreadAllocatedBytes() {
+        com.sun.management.ThreadMXBean bean = BeanHolder.BEAN;
+        return Objects.isNull(bean) ? -1 : bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Invoke the leetcode invoker on the current thread and
+     * measure the allocated bytes.
+     *
+     * @param invoker the leetcode invoker.
+     * @param holder  the object holding the invoker.
+     * @param args    the invoking args.
+     * @return the outcome with the allocated bytes.
+     */
+    public InvocationOutcome invoke(LeetcodeInvoker invoker, Object holder, Object... args) {
+        long before = currentThreadAllocatedBytes();
+        InvocationOutcome outcome = InvocationOutcome.invoke(invoker, holder, args);
+        long after = currentThreadAllocatedBytes();
+        if (before < 0 || after < 0) {
+            return outcome;
+        }
+        long allocatedBytes = after - before;
+        return outcome.withAllocatedBytes(allocatedBytes, budgetBytes > 0 && allocatedBytes > budgetBytes);
+    }
+
+    /**
+     * Get the memory budget bytes.
+     *
+     * @return the memory budget bytes, 0 for unlimited.
+     */
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Lazy holder of the HotSpot thread MXBean, which isolates
+     * the linkage of {@code com.sun.management} on other JVMs.
+     */
+    private static final class BeanHolder {
+
+        private static final com.sun.management.ThreadMXBean BEAN = obtainBean();
+
+        private static com.sun.management.ThreadMXBean obtainBean() {
+            try {
+                Object bean = ManagementFactory.getThreadMXBean();
+                if (bean instanceof com.sun.management.ThreadMXBean) {
+                    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+                    if (threadMXBean.isThreadAllocatedMemorySupported()) {
+                        if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+                        }
+                        return threadMXBean;
+                    }
+                }
+            } catch (LinkageError | UnsupportedOperationException | SecurityException ignored) {
+            }
+            return null;
+        }
+    }
+}
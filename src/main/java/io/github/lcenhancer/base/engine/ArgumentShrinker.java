@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.engine;
+
+import io.github.lcenhancer.base.struct.ListNode;
+import io.github.lcenhancer.base.struct.TreeNode;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StructUtil;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * <p>ArgumentShrinker greedily shrinks the arguments of a
+ * failing case to a smaller case that still fails.</p>
+ *
+ * <p>Sequences (arrays, lists and strings) are shrunk by
+ * removing chunks of elements and then by shrinking each
+ * element, numbers are shrunk towards zero, linked lists
+ * are shrunk as sequences and trees are shrunk by replacing
+ * subtrees with their children or removing them.</p>
+ *
+ * <p>Note: the candidate arguments passed to the failing
+ * predicate share structure with each other, so the predicate
+ * must not mutate them.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+final class ArgumentShrinker {
+
+    /**
+     * No smaller failing value found.
+     */
+    private static final Object NONE = new Object();
+
+    /**
+     * The failing case predicate.
+     */
+    private final Predicate<Object[]> failing;
+
+    /**
+     * The max count of candidate attempts.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The used count of candidate attempts.
+     */
+    private int attempts = 0;
+
+    /**
+     * Create an ArgumentShrinker.
+     *
+     * @param failing     the failing case predicate.
+     * @param maxAttempts the max count of candidate attempts.
+     */
+    ArgumentShrinker(Predicate<Object[]> failing, int maxAttempts) {
+        AssertUtil.nonNull(failing, "The failing predicate cannot be null.");
+        this.failing = failing;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Shrink the failing arguments.
+     *
+     * @param args the failing arguments.
+     * @return the smallest failing arguments found.
+     */
+    Object[] shrink(Object[] args) {
+        Object[] current = args;
+        boolean improved = true;
+        while (improved && attempts < maxAttempts) {
+            improved = false;
+            for (int pos = 0; pos < current.length && attempts < maxAttempts; pos++) {
+                Object[] base = current;
+                int p = pos;
+                Object smaller = shrinkValue(current[pos], candidate -> test(base, p, candidate));
+                if (smaller != NONE) {
+                    current = with(current, pos, smaller);
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Get the used count of candidate attempts.
+     *
+     * @return the used attempts.
+     */
+    int getAttempts() {
+        return attempts;
+    }
+
+    private boolean test(Object[] base, int pos, Object candidate) {
+        if (attempts >= maxAttempts) {
+            return false;
+        }
+        attempts++;
+        return failing.test(with(base, pos, candidate));
+    }
+
+    private static Object[] with(Object[] args, int pos, Object value) {
+        Object[] copy = args.clone();
+        copy[pos] = value;
+        return copy;
+    }
+
+    private Object shrinkValue(Object value, Predicate<Object> accept) {
+        if (Objects.isNull(value) || attempts >= maxAttempts) {
+            return NONE;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return shrinkNumber((Number) value, accept);
+        }
+        if (value instanceof String || StructUtil.isSequence(value)) {
+            return shrinkSequence(value, accept);
+        }
+        if (value instanceof ListNode) {
+            return shrinkListNode((ListNode) value, accept);
+        }
+        if (value instanceof TreeNode) {
+            return shrinkTreeNode((TreeNode) value, accept);
+        }
+        return NONE;
+    }
+
+    private Object shrinkNumber(Number number, Predicate<Object> accept) {
+        long value = number.longValue();
+        long[] candidates = {0, value / 2, value - Long.signum(value)};
+        long last = value;
+        for (long candidate : candidates) {
+            if (candidate != value && candidate != last) {
+                last = candidate;
+                Object boxed = box(number, candidate);
+                if (accept.test(boxed)) {
+                    return boxed;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    private static Object box(Number type, long value) {
+        if (type instanceof Integer) {
+            return (int) value;
+        }
+        if (type instanceof Short) {
+            return (short) value;
+        }
+        if (type instanceof Byte) {
+            return (byte) value;
+        }
+        return value;
+    }
+
+    private Object shrinkSequence(Object sequence, Predicate<Object> accept) {
+        int length = lengthOf(sequence);
+        // Remove chunks from the largest to the smallest.
+        for (int chunk = length / 2 > 0 ? length / 2 : length; chunk > 0 && attempts < maxAttempts; chunk /= 2) {
+            for (int start = 0; start + chunk <= length && attempts < maxAttempts; start += chunk) {
+                Object candidate = remove(sequence, start, chunk);
+                if (accept.test(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        if (sequence instanceof String) {
+            return NONE;
+        }
+        // Then shrink each element in place.
+        for (int i = 0; i < length && attempts < maxAttempts; i++) {
+            int index = i;
+            Object element = sequence instanceof List ? ((List<?>) sequence).get(i) : Array.get(sequence, i);
+            Object smaller = shrinkValue(element, candidate -> accept.test(replace(sequence, index, candidate)));
+            if (smaller != NONE) {
+                return replace(sequence, index, smaller);
+            }
+        }
+        return NONE;
+    }
+
+    private static int lengthOf(Object sequence) {
+        return sequence instanceof String ? ((String) sequence).length() : StructUtil.sequenceSize(sequence);
+    }
+
+    private static Object remove(Object sequence, int start, int count) {
+        if (sequence instanceof String) {
+            String string = (String) sequence;
+            return string.substring(0, start) + string.substring(start + count);
+        }
+        if (sequence instanceof List) {
+            List<?> list = (List<?>) sequence;
+            List<Object> copy = new ArrayList<>(list.size() - count);
+            copy.addAll(list.subList(0, start));
+            copy.addAll(list.subList(start + count, list.size()));
+            return copy;
+        }
+        int length = Array.getLength(sequence);
+        Object copy = Array.newInstance(sequence.getClass().getComponentType(), length - count);
+        System.arraycopy(sequence, 0, copy, 0, start);
+        System.arraycopy(sequence, start + count, copy, start, length - start - count);
+        return copy;
+    }
+
+    private static Object replace(Object sequence, int index, Object element) {
+        if (sequence instanceof List) {
+            List<Object> copy = new ArrayList<>((List<?>) sequence);
+            copy.set(index, element);
+            return copy;
+        }
+        int length = Array.getLength(sequence);
+        Object copy = Array.newInstance(sequence.getClass().getComponentType(), length);
+        System.arraycopy(sequence, 0, copy, 0, length);
+        Array.set(copy, index, element);
+        return copy;
+    }
+
+    private Object shrinkListNode(ListNode head, Predicate<Object> accept) {
+        List<Integer> values = new ArrayList<>();
+        Set<ListNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ListNode node = head; Objects.nonNull(node); node = node.next) {
+            if (!visited.add(node)) {
+                // The cyclic linked lists are kept as they are.
+                return NONE;
+            }
+            values.add(node.val);
+        }
+        Object smaller = shrinkSequence(values, candidate -> accept.test(toListNode((List<?>) candidate)));
+        return smaller == NONE ? NONE : toListNode((List<?>) smaller);
+    }
+
+    private static ListNode toListNode(List<?> values) {
+        ListNode dummy = new ListNode();
+        ListNode tail = dummy;
+        for (Object value : values) {
+            tail.next = new ListNode((Integer) value);
+            tail = tail.next;
+        }
+        return dummy.next;
+    }
+
+    private Object shrinkTreeNode(TreeNode node, Predicate<Object> accept) {
+        if (attempts >= maxAttempts) {
+            return NONE;
+        }
+        // Replace the tree with one of its children.
+        for (TreeNode child : new TreeNode[]{node.left, node.right}) {
+            if (Objects.nonNull(child) && accept.test(child)) {
+                return child;
+            }
+        }
+        // Remove one of its children.
+        if (Objects.nonNull(node.left)) {
+            TreeNode candidate = new TreeNode(node.val, null, node.right);
+            if (accept.test(candidate)) {
+                return candidate;
+            }
+        }
+        if (Objects.nonNull(node.right)) {
+            TreeNode candidate = new TreeNode(node.val, node.left, null);
+            if (accept.test(candidate)) {
+                return candidate;
+            }
+        }
+        // Shrink the value and the children.
+        Object value = shrinkNumber(node.val, candidate -> accept.test(new TreeNode((Integer) candidate, node.left, node.right)));
+        if (value != NONE) {
+            return new TreeNode((Integer) value, node.left, node.right);
+        }
+        if (Objects.nonNull(node.left)) {
+            Object left = shrinkTreeNode(node.left, candidate -> accept.test(new TreeNode(node.val, (TreeNode) candidate, node.right)));
+            if (left != NONE) {
+                return new TreeNode(node.val, (TreeNode) left, node.right);
+            }
+        }
+        if (Objects.nonNull(node.right)) {
+            Object right = shrinkTreeNode(node.right, candidate -> accept.test(new TreeNode(node.val, node.left, (TreeNode) candidate)));
+            if (right != NONE) {
+                return new TreeNode(node.val, node.left, (TreeNode) right);
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.engine;
+
+import io.github.lcenhancer.base.exception.EnhancerException;
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StructUtil;
+import io.github.lcenhancer.base.utils.ThreadUtil;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>DifferentialTestingEngine feeds the same accepted arguments
+ * to a reference {@link LeetcodeInvoker} (for example a brute-force
+ * solution) and a candidate {@link LeetcodeInvoker} (for example
+ * an optimized solution), and compares their results.</p>
+ *
+ * <p>The arguments are accepted only once by the caller. Each
+ * invoker receives its own {@link StructUtil#deepCopy(Object) deep copy},
+ * so that a solution mutating its input cannot affect the other.
+ * The cases run in parallel on a fixed pool of worker threads,
+ * and the results are compared by {@link StructUtil#deepEquals(Object, Object, int)}.
+ * When the invokers return <tt>void</tt>, the mutated arguments
+ * are compared instead.</p>
+ *
+ * <p>The first mismatching case (the one with the lowest case index)
+ * is shrunk by {@link ArgumentShrinker} to the smallest failing input
+ * found, and reported in a {@link Report} together with the relative
+ * timings of both invokers.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class DifferentialTestingEngine {
+
+    /**
+     * The reference invoker.
+     */
+    private final LeetcodeInvoker reference;
+
+    /**
+     * The supplier of the object holding the reference invoker.
+     */
+    private final Supplier<?> referenceHolder;
+
+    /**
+     * The candidate invoker.
+     */
+    private final LeetcodeInvoker candidate;
+
+    /**
+     * The supplier of the object holding the candidate invoker.
+     */
+    private final Supplier<?> candidateHolder;
+
+    /**
+     * The worker thread count.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The count of the outermost result levels compared regardless of order.
+     */
+    private int unorderedDepth = 0;
+
+    /**
+     * The max count of candidate attempts while shrinking.
+     */
+    private int maxShrinkAttempts = 1000;
+
+    /**
+     * Whether to stop at the first mismatch.
+     */
+    private boolean stopOnFirstMismatch = true;
+
+    /**
+     * Create a DifferentialTestingEngine.
+     *
+     * <p>The holder suppliers are called once per invocation,
+     * and may be called concurrently.</p>
+     *
+     * @param reference       the reference invoker.
+     * @param referenceHolder the supplier of the object holding the reference invoker.
+     * @param candidate       the candidate invoker.
+     * @param candidateHolder the supplier of the object holding the candidate invoker.
+     */
+    public DifferentialTestingEngine(LeetcodeInvoker reference, Supplier<?> referenceHolder,
+                                     LeetcodeInvoker candidate, Supplier<?> candidateHolder) {
+        AssertUtil.nonNull(reference, "The reference invoker cannot be null.");
+        AssertUtil.nonNull(referenceHolder, "The reference holder supplier cannot be null.");
+        AssertUtil.nonNull(candidate, "The candidate invoker cannot be null.");
+        AssertUtil.nonNull(candidateHolder, "The candidate holder supplier cannot be null.");
+        AssertUtil.isTrue(reference.getParameterCount() == candidate.getParameterCount(),
+                "The parameter count of the reference and the candidate does not match.");
+        this.reference = reference;
+        this.referenceHolder = referenceHolder;
+        this.candidate = candidate;
+        this.candidateHolder = candidateHolder;
+    }
+
+    /**
+     * Set the worker thread count.
+     *
+     * @param parallelism the worker thread count.
+     */
+    public void setParallelism(int parallelism) {
+        AssertUtil.isTrue(parallelism > 0, "The parallelism must be positive.");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the count of the outermost result levels compared regardless of order.
+     *
+     * @param unorderedDepth the unordered depth.
+     * @see StructUtil#deepEquals(Object, Object, int)
+     */
+    public void setUnorderedDepth(int unorderedDepth) {
+        AssertUtil.isTrue(unorderedDepth >= 0, "The unorderedDepth cannot be negative.");
+        this.unorderedDepth = unorderedDepth;
+    }
+
+    /**
+     * Set the max count of candidate attempts while shrinking,
+     * 0 to disable shrinking.
+     *
+     * @param maxShrinkAttempts the max shrink attempts.
+     */
+    public void setMaxShrinkAttempts(int maxShrinkAttempts) {
+        AssertUtil.isTrue(maxShrinkAttempts >= 0, "The maxShrinkAttempts cannot be negative.");
+        this.maxShrinkAttempts = maxShrinkAttempts;
+    }
+
+    /**
+     * Set whether to stop at the first mismatch.
+     *
+     * @param stopOnFirstMismatch true to stop at the first mismatch.
+     */
+    public void setStopOnFirstMismatch(boolean stopOnFirstMismatch) {
+        this.stopOnFirstMismatch = stopOnFirstMismatch;
+    }
+
+    /**
+     * Run all cases and compare the invokers.
+     *
+     * @param arguments the accepted arguments of each case.
+     * @return the report.
+     */
+    public Report run(Iterator<Object[]> arguments) {
+        AssertUtil.nonNull(arguments, "The arguments cannot be null.");
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                ThreadUtil.newDaemonThreadFactory("lc-enhancer-differential"));
+        // Bound the in-flight cases so that the arguments are streamed.
+        int maxInFlight = parallelism * 4;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicBoolean stop = new AtomicBoolean(false);
+        AtomicLong mismatches = new AtomicLong(0);
+        LongAdder referenceNanos = new LongAdder();
+        LongAdder candidateNanos = new LongAdder();
+        AtomicReference<Mismatch> firstMismatch = new AtomicReference<>();
+        AtomicReference<Throwable> engineError = new AtomicReference<>();
+        long caseCount = 0;
+        try {
+            while (!stop.get() && arguments.hasNext()) {
+                Object[] args = arguments.next();
+                AssertUtil.isTrue(Objects.nonNull(args) && args.length == reference.getParameterCount(),
+                        "The argument count does not match the parameter count.");
+                long caseIndex = caseCount++;
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        CaseRun run = runBoth(args);
+                        referenceNanos.add(run.referenceOutcome.getElapsedNanos());
+                        candidateNanos.add(run.candidateOutcome.getElapsedNanos());
+                        if (!matches(run)) {
+                            mismatches.incrementAndGet();
+                            Mismatch mismatch = new Mismatch(caseIndex, args);
+                            firstMismatch.accumulateAndGet(mismatch,
+                                    (m1, m2) -> Objects.isNull(m1) || m2.caseIndex < m1.caseIndex ? m2 : m1);
+                            if (stopOnFirstMismatch) {
+                                stop.set(true);
+                            }
+                        }
+                    } catch (Throwable throwable) {
+                        engineError.compareAndSet(null, throwable);
+                        stop.set(true);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // Wait for all in-flight cases.
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EnhancerException("The differential testing is interrupted.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (Objects.nonNull(engineError.get())) {
+            throw new EnhancerException("The differential testing failed.", engineError.get());
+        }
+        Mismatch mismatch = firstMismatch.get();
+        if (Objects.isNull(mismatch)) {
+            return new Report(caseCount, 0, -1, null, null, null, referenceNanos.sum(), candidateNanos.sum());
+        }
+        Object[] shrunk = mismatch.args;
+        if (maxShrinkAttempts > 0) {
+            shrunk = new ArgumentShrinker(args -> !matches(runBoth(args)), maxShrinkAttempts)
+                    .shrink(mismatch.args);
+        }
+        return new Report(caseCount, mismatches.get(), mismatch.caseIndex, mismatch.args, shrunk, runBoth(shrunk),
+                referenceNanos.sum(), candidateNanos.sum());
+    }
+
+    /**
+     * Run both invokers on their own copies of the arguments.
+     *
+     * @param args the accepted arguments.
+     * @return the case run.
+     */
+    private CaseRun runBoth(Object[] args) {
+        Object[] referenceArgs = StructUtil.deepCopy(args);
+        Object[] candidateArgs = StructUtil.deepCopy(args);
+        return new CaseRun(
+                InvocationOutcome.invoke(reference, referenceHolder.get(), referenceArgs), referenceArgs,
+                InvocationOutcome.invoke(candidate, candidateHolder.get(), candidateArgs), candidateArgs
+        );
+    }
+
+    private boolean matches(CaseRun run) {
+        if (run.referenceOutcome.getStatus() != run.candidateOutcome.getStatus()) {
+            return false;
+        }
+        if (run.referenceOutcome.getStatus() == InvocationOutcome.Status.EXCEPTION) {
+            return Objects.equals(run.referenceOutcome.getThrowable().getClass(),
+                    run.candidateOutcome.getThrowable().getClass());
+        }
+        if (!run.referenceOutcome.isOk()) {
+            // The same timeout or memory limit status carries no throwable to compare.
+            return true;
+        }
+        Class<?> returnType = reference.getReturnType();
+        if (returnType == void.class || returnType == Void.class) {
+            // Compare the mutated arguments of in-place solutions.
+            return StructUtil.deepEquals(run.referenceArgs, run.candidateArgs, 0);
+        }
+        return StructUtil.deepEquals(run.referenceOutcome.getResult(), run.candidateOutcome.getResult(),
+                unorderedDepth);
+    }
+
+    /**
+     * The outcomes and the (possibly mutated) arguments of both invokers on a case.
+     */
+    private static final class CaseRun {
+
+        private final InvocationOutcome referenceOutcome;
+
+        private final Object[] referenceArgs;
+
+        private final InvocationOutcome candidateOutcome;
+
+        private final Object[] candidateArgs;
+
+        private CaseRun(InvocationOutcome referenceOutcome, Object[] referenceArgs,
+                        InvocationOutcome candidateOutcome, Object[] candidateArgs) {
+            this.referenceOutcome = referenceOutcome;
+            this.referenceArgs = referenceArgs;
+            this.candidateOutcome = candidateOutcome;
+            this.candidateArgs = candidateArgs;
+        }
+    }
+
+    /**
+     * A mismatching case.
+     */
+    private static final class Mismatch {
+
+        private final long caseIndex;
+
+        private final Object[] args;
+
+        private Mismatch(long caseIndex, Object[] args) {
+            this.caseIndex = caseIndex;
+            this.args = args;
+        }
+    }
+
+    /**
+     * <p>Report is the result of a differential testing run.</p>
+     *
+     * <p>When {@link #hasMismatch()} is true, the first mismatching
+     * case can be obtained by {@link #getMismatchArgs()} and its shrunk
+     * version by {@link #getShrunkArgs()}.</p>
+     */
+    public static final class Report {
+
+        private final long caseCount;
+
+        private final long mismatchCount;
+
+        private final long mismatchCaseIndex;
+
+        private final Object[] mismatchArgs;
+
+        private final Object[] shrunkArgs;
+
+        private final CaseRun shrunkRun;
+
+        private final long referenceNanos;
+
+        private final long candidateNanos;
+
+        private Report(long caseCount, long mismatchCount, long mismatchCaseIndex, Object[] mismatchArgs,
+                       Object[] shrunkArgs, CaseRun shrunkRun,
+                       long referenceNanos, long candidateNanos) {
+            this.caseCount = caseCount;
+            this.mismatchCount = mismatchCount;
+            this.mismatchCaseIndex = mismatchCaseIndex;
+            this.mismatchArgs = mismatchArgs;
+            this.shrunkArgs = shrunkArgs;
+            this.shrunkRun = shrunkRun;
+            this.referenceNanos = referenceNanos;
+            this.candidateNanos = candidateNanos;
+        }
+
+        /**
+         * Get the count of the run cases.
+         *
+         * @return the case count.
+         */
+        public long getCaseCount() {
+            return caseCount;
+        }
+
+        /**
+         * Get the count of the mismatching cases.
+         *
+         * @return the mismatch count.
+         */
+        public long getMismatchCount() {
+            return mismatchCount;
+        }
+
+        /**
+         * Whether any mismatching case is found.
+         *
+         * @return true if any mismatching case is found.
+         */
+        public boolean hasMismatch() {
+            return mismatchCount > 0;
+        }
+
+        /**
+         * Get the index of the first mismatching case.
+         *
+         * @return the case index, -1 if no mismatch.
+         */
+        public long getMismatchCaseIndex() {
+            return mismatchCaseIndex;
+        }
+
+        /**
+         * Get the arguments of the first mismatching case.
+         *
+         * @return the arguments, null if no mismatch.
+         */
+        public Object[] getMismatchArgs() {
+            return mismatchArgs;
+        }
+
+        /**
+         * Get the shrunk arguments of the first mismatching case.
+         *
+         * @return the shrunk arguments, null if no mismatch.
+         */
+        public Object[] getShrunkArgs() {
+            return shrunkArgs;
+        }
+
+        /**
+         * Get the reference outcome of the shrunk arguments.
+         *
+         * @return the reference outcome, null if no mismatch.
+         */
+        public InvocationOutcome getReferenceOutcome() {
+            return Objects.isNull(shrunkRun) ? null : shrunkRun.referenceOutcome;
+        }
+
+        /**
+         * Get the candidate outcome of the shrunk arguments.
+         *
+         * @return the candidate outcome, null if no mismatch.
+         */
+        public InvocationOutcome getCandidateOutcome() {
+            return Objects.isNull(shrunkRun) ? null : shrunkRun.candidateOutcome;
+        }
+
+        /**
+         * Get the total invoking nanos of the reference invoker.
+         *
+         * @return the reference nanos.
+         */
+        public long getReferenceNanos() {
+            return referenceNanos;
+        }
+
+        /**
+         * Get the total invoking nanos of the candidate invoker.
+         *
+         * @return the candidate nanos.
+         */
+        public long getCandidateNanos() {
+            return candidateNanos;
+        }
+
+        /**
+         * Get the speedup of the candidate invoker over the reference invoker.
+         *
+         * @return the speedup, greater than 1 if the candidate is faster.
+         */
+        public double getSpeedup() {
+            return candidateNanos == 0 ? Double.NaN : (double) referenceNanos / candidateNanos;
+        }
+
+        /**
+         * Report to string.
+         *
+         * @return report string.
+         */
+        @Override
+        public String toString() {
+            StringBuilder stringBuilder = new StringBuilder("DifferentialTestingReport: ");
+            stringBuilder.append(caseCount).append(" cases, ");
+            stringBuilder.append(mismatchCount).append(" mismatches");
+            stringBuilder.append(", reference: ").append(referenceNanos / 1000000).append("ms");
+            stringBuilder.append(", candidate: ").append(candidateNanos / 1000000).append("ms");
+            stringBuilder.append(String.format(", speedup: %.2fx", getSpeedup()));
+            if (hasMismatch()) {
+                stringBuilder.append("\n -- First mismatch case: #").append(mismatchCaseIndex);
+                stringBuilder.append("\n -- Shrunk input: ").append(StructUtil.toCanonicalString(shrunkArgs, 0));
+                stringBuilder.append("\n -- Reference: ").append(describe(shrunkRun.referenceOutcome));
+                stringBuilder.append("\n -- Candidate: ").append(describe(shrunkRun.candidateOutcome));
+            }
+            return stringBuilder.toString();
+        }
+
+        private static String describe(InvocationOutcome outcome) {
+            if (!outcome.isOk()) {
+                return String.valueOf(outcome.getThrowable());
+            }
+            return StructUtil.toCanonicalString(outcome.getResult(), 0);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.engine;
+
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+
+/**
+ * <p>InvocationOutcome is the outcome of a single
+ * {@link LeetcodeInvoker#invoke(Object, Object...)} call.</p>
+ *
+ * <p>It holds the outcome {@link Status}, the invoked result
+ * or the thrown throwable, the elapsed wall-clock time and,
+ * when measured by an {@link AllocationMeter}, the allocated bytes.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class InvocationOutcome {
+
+    /**
+     * The outcome status.
+     */
+    private final Status status;
+
+    /**
+     * The invoked result.
+     */
+    private final Object result;
+
+    /**
+     * The thrown throwable.
+     */
+    private final Throwable throwable;
+
+    /**
+     * The elapsed wall-clock nanos.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * The allocated bytes, -1 if not measured.
+     */
+    private final long allocatedBytes;
+
+    /**
+     * Create an InvocationOutcome instance.
+     *
+     * @param status         the outcome status.
+     * @param result         the invoked result.
+     * @param throwable      the thrown throwable.
+     * @param elapsedNanos   the elapsed wall-clock nanos.
+     * @param allocatedBytes the allocated bytes, -1 if not measured.
+     */
+    private InvocationOutcome(Status status, Object result, Throwable throwable, long elapsedNanos,
+                              long allocatedBytes) {
+        this.status = status;
+        this.result = result;
+        this.throwable = throwable;
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Invoke the leetcode invoker and capture the outcome.
+     *
+     * @param invoker the leetcode invoker.
+     * @param holder  the object holding the invoker.
+     * @param args    the invoking args.
+     * @return the outcome.
+     */
+    public static InvocationOutcome invoke(LeetcodeInvoker invoker, Object holder, Object... args) {
+        AssertUtil.nonNull(invoker, "The invoker cannot be null.");
+        long start = System.nanoTime();
+        try {
+            Object result = invoker.invoke(holder, args);
+            return ok(result, System.nanoTime() - start);
+        } catch (Throwable throwable) {
+            return failed(throwable, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Create a successful outcome.
+     *
+     * @param result       the invoked result.
+     * @param elapsedNanos the elapsed wall-clock nanos.
+     * @return the outcome.
+     */
+    public static InvocationOutcome ok(Object result, long elapsedNanos) {
+        return new InvocationOutcome(Status.OK, result, null, elapsedNanos, -1);
+    }
+
+    /**
+     * Create a failed outcome.
+     *
+     * @param throwable    the thrown throwable.
+     * @param elapsedNanos the elapsed wall-clock nanos.
+     * @return the outcome.
+     */
+    public static InvocationOutcome failed(Throwable throwable, long elapsedNanos) {
+        // Unwrap the reflective wrapper to keep the solution's own throwable.
+        while (throwable instanceof InvocationTargetException && Objects.nonNull(throwable.getCause())) {
+            throwable = throwable.getCause();
+        }
+        return new InvocationOutcome(Status.EXCEPTION, null, throwable, elapsedNanos, -1);
+    }
+
+    /**
+     * Create a timed out outcome.
+     *
+     * @param elapsedNanos the elapsed wall-clock nanos until the time out.
+     * @return the outcome.
+     */
+    public static InvocationOutcome timeout(long elapsedNanos) {
+        return new InvocationOutcome(Status.TIMEOUT, null, null, elapsedNanos, -1);
+    }
+
+    /**
+     * Create a copy of this outcome with the allocated bytes.
+     *
+     * <p>A successful outcome over the memory budget becomes
+     * {@link Status#MEMORY_LIMIT_EXCEEDED}, keeping its result.</p>
+     *
+     * @param allocatedBytes the allocated bytes.
+     * @param overBudget     whether the allocated bytes exceed the memory budget.
+     * @return the outcome with the allocated bytes.
+     */
+    public InvocationOutcome withAllocatedBytes(long allocatedBytes, boolean overBudget) {
+        Status newStatus = overBudget && Status.OK == status ? Status.MEMORY_LIMIT_EXCEEDED : status;
+        return new InvocationOutcome(newStatus, result, throwable, elapsedNanos, allocatedBytes);
+    }
+
+    /**
+     * Get the outcome status.
+     *
+     * @return the outcome status.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Get the invoked result.
+     *
+     * @return the invoked result, null if the invocation does not complete.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getResult() {
+        return (T) result;
+    }
+
+    /**
+     * Get the thrown throwable.
+     *
+     * @return the thrown throwable, null if nothing is thrown.
+     */
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    /**
+     * Get the elapsed wall-clock nanos.
+     *
+     * @return the elapsed nanos.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get the bytes allocated by the invocation thread during the invocation.
+     *
+     * @return the allocated bytes, -1 if not measured.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Whether the invocation completes normally.
+     *
+     * @return true if the status is {@link Status#OK}.
+     */
+    public boolean isOk() {
+        return Status.OK == status;
+    }
+
+    /**
+     * Outcome to string.
+     *
+     * @return outcome string.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("InvocationOutcome: ");
+        stringBuilder.append(status);
+        stringBuilder.append(", elapsed: ").append(elapsedNanos / 1000).append("us");
+        if (allocatedBytes >= 0) {
+            stringBuilder.append(", allocated: ").append(allocatedBytes).append("B");
+        }
+        if (isOk() || Status.MEMORY_LIMIT_EXCEEDED == status) {
+            stringBuilder.append(", result: ").append(result);
+        } else if (Objects.nonNull(throwable)) {
+            stringBuilder.append(", throwable: ").append(throwable);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * The outcome status.
+     */
+    public enum Status {
+        /**
+         * The invocation completes normally.
+         */
+        OK,
+        /**
+         * The invocation throws.
+         */
+        EXCEPTION,
+        /**
+         * The invocation exceeds its time limit.
+         */
+        TIMEOUT,
+        /**
+         * The invocation completes but exceeds its memory budget.
+         */
+        MEMORY_LIMIT_EXCEEDED
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.engine;
+
+import io.github.lcenhancer.base.exception.EnhancerException;
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.LogUtil;
+import io.github.lcenhancer.base.utils.ThreadUtil;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>InvocationWatchdog runs each {@link LeetcodeInvoker#invoke(Object, Object...)}
+ * call on a worker thread and bounds it with a wall-clock
+ * limit and a CPU-time limit.</p>
+ *
+ * <p>The calling thread watches the worker. When a limit is
+ * exceeded, the invocation is recorded as
+ * {@link InvocationOutcome.Status#TIMEOUT} and the worker is
+ * interrupted, which is the cooperative cancellation signal
+ * for the solution. If the worker does not finish within the
+ * grace period, it is abandoned and replaced by a new worker,
+ * so that the next invocation can run immediately.</p>
+ *
+ * <p>Note: the abandoned worker is a daemon thread and keeps
+ * running until the stuck invocation returns, since a thread
+ * cannot be stopped safely. The CPU-time limit is ignored if the
+ * JVM does not support thread CPU time measurement.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class InvocationWatchdog implements AutoCloseable {
+
+    /**
+     * The CPU time polling interval.
+     */
+    private static final long CPU_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * The wall-clock limit nanos, 0 for unlimited.
+     */
+    private final long wallClockLimitNanos;
+
+    /**
+     * The CPU-time limit nanos, 0 for unlimited.
+     */
+    private final long cpuTimeLimitNanos;
+
+    /**
+     * The grace nanos for an interrupted worker to finish.
+     */
+    private final long graceNanos;
+
+    /**
+     * The thread MXBean for CPU time measurement, null if not supported.
+     */
+    private final ThreadMXBean threadMXBean;
+
+    /**
+     * The allocation meter, null if not measured.
+     */
+    private AllocationMeter allocationMeter;
+
+    /**
+     * The worker executor.
+     */
+    private ExecutorService worker;
+
+    /**
+     * The count of the abandoned workers.
+     */
+    private int abandonedWorkers = 0;
+
+    /**
+     * The watchdog closed flag.
+     */
+    private boolean closeFlag = false;
+
+    /**
+     * Create an InvocationWatchdog.
+     *
+     * @param wallClockLimit the wall-clock limit per invocation, 0 for unlimited.
+     * @param cpuTimeLimit   the CPU-time limit per invocation, 0 for unlimited.
+     * @param grace          the grace period for an interrupted worker to finish.
+     * @param unit           the time unit of the limits.
+     */
+    public InvocationWatchdog(long wallClockLimit, long cpuTimeLimit, long grace, TimeUnit unit) {
+        AssertUtil.nonNull(unit, "The time unit cannot be null.");
+        AssertUtil.isTrue(wallClockLimit >= 0 && cpuTimeLimit >= 0 && grace >= 0,
+                "The time limits cannot be negative.");
+        this.wallClockLimitNanos = unit.toNanos(wallClockLimit);
+        this.cpuTimeLimitNanos = unit.toNanos(cpuTimeLimit);
+        this.graceNanos = unit.toNanos(grace);
+        this.threadMXBean = cpuTimeLimit > 0 ? obtainThreadMXBean() : null;
+        this.worker = newWorker();
+    }
+
+    /**
+     * Create an InvocationWatchdog with a wall-clock limit only.
+     *
+     * @param wallClockLimit the wall-clock limit per invocation.
+     * @param unit           the time unit of the limit.
+     */
+    public InvocationWatchdog(long wallClockLimit, TimeUnit unit) {
+        this(wallClockLimit, 0, Math.min(wallClockLimit, unit.convert(1, TimeUnit.SECONDS)), unit);
+    }
+
+    /**
+     * Set the allocation meter to measure the invocations on the worker thread.
+     *
+     * @param allocationMeter the allocation meter, null to disable the measurement.
+     */
+    public synchronized void setAllocationMeter(AllocationMeter allocationMeter) {
+        this.allocationMeter = allocationMeter;
+    }
+
+    /**
+     * Invoke the leetcode invoker on the worker thread within the time limits.
+     *
+     * @param invoker the leetcode invoker.
+     * @param holder  the object holding the invoker.
+     * @param args    the invoking args.
+     * @return the outcome, {@link InvocationOutcome.Status#TIMEOUT} if a limit is exceeded.
+     */
+    public synchronized InvocationOutcome invoke(LeetcodeInvoker invoker, Object holder, Object... args) {
+        AssertUtil.isTrue(!closeFlag, "The watchdog has been closed.");
+        AssertUtil.nonNull(invoker, "The invoker cannot be null.");
+        WatchedTask task = new WatchedTask(invoker, holder, args, allocationMeter);
+        long start = System.nanoTime();
+        Future<InvocationOutcome> future = worker.submit(task);
+        try {
+            while (true) {
+                long wait = wallClockLimitNanos > 0 ? wallClockLimitNanos - (System.nanoTime() - start) : Long.MAX_VALUE;
+                if (Objects.nonNull(threadMXBean)) {
+                    wait = Math.min(wait, CPU_POLL_NANOS);
+                }
+                if (wait <= 0) {
+                    break;
+                }
+                try {
+                    return future.get(wait, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException ignored) {
+                }
+                if (Objects.nonNull(threadMXBean) && task.cpuNanos(threadMXBean) > cpuTimeLimitNanos) {
+                    break;
+                }
+            }
+        } catch (ExecutionException e) {
+            return InvocationOutcome.failed(e.getCause(), System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            // Do not wait for the grace period on an interrupted thread.
+            cancel(future, task, false);
+            Thread.currentThread().interrupt();
+            throw new EnhancerException("The watched invocation is interrupted.", e);
+        }
+        long elapsed = System.nanoTime() - start;
+        cancel(future, task, true);
+        return InvocationOutcome.timeout(elapsed);
+    }
+
+    /**
+     * Get the count of the abandoned workers.
+     *
+     * @return the abandoned workers.
+     */
+    public synchronized int getAbandonedWorkers() {
+        return abandonedWorkers;
+    }
+
+    /**
+     * Interrupt the abandoned invocation, and replace the worker
+     * if it does not finish within the grace period.
+     *
+     * @param awaitGrace false to replace the running worker without waiting.
+     */
+    private void cancel(Future<InvocationOutcome> future, WatchedTask task, boolean awaitGrace) {
+        future.cancel(true);
+        boolean finished;
+        if (task.preventStart()) {
+            // The task body will never run on the worker.
+            finished = true;
+        } else if (!awaitGrace) {
+            finished = task.done.getCount() == 0;
+        } else {
+            try {
+                finished = task.done.await(graceNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                finished = task.done.getCount() == 0;
+            }
+        }
+        if (!finished) {
+            abandonedWorkers++;
+            LogUtil.logW("The invocation worker is stuck after the time limit, abandon it: %s",
+                    task.invoker.getInvokerName());
+            worker.shutdownNow();
+            worker = newWorker();
+        }
+    }
+
+    private static ExecutorService newWorker() {
+        return Executors.newSingleThreadExecutor(ThreadUtil.newDaemonThreadFactory("lc-enhancer-watchdog"));
+    }
+
+    private static ThreadMXBean obtainThreadMXBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean.isThreadCpuTimeSupported()) {
+                if (!bean.isThreadCpuTimeEnabled()) {
+                    bean.setThreadCpuTimeEnabled(true);
+                }
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException ignored) {
+        }
+        LogUtil.logW("The thread CPU time is not supported, the CPU-time limit is ignored.");
+        return null;
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     *
+     * <p>The running invocation, if any, is interrupted.</p>
+     */
+    @Override
+    public synchronized void close() {
+        closeFlag = true;
+        worker.shutdownNow();
+    }
+
+    /**
+     * An invocation task watched by the watchdog.
+     */
+    private static final class WatchedTask implements Callable<InvocationOutcome> {
+
+        private final LeetcodeInvoker invoker;
+
+        private final Object holder;
+
+        private final Object[] args;
+
+        private final AllocationMeter allocationMeter;
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        /**
+         * Claimed by the worker before running the body, or by the
+         * watchdog to prevent a cancelled task from running at all.
+         */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private volatile long threadId = -1;
+
+        private volatile long cpuStartNanos = -1;
+
+        private WatchedTask(LeetcodeInvoker invoker, Object holder, Object[] args, AllocationMeter allocationMeter) {
+            this.invoker = invoker;
+            this.holder = holder;
+            this.args = args;
+            this.allocationMeter = allocationMeter;
+        }
+
+        @Override
+        public InvocationOutcome call() {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            cpuStartNanos = bean.isThreadCpuTimeSupported() ? bean.getCurrentThreadCpuTime() : -1;
+            threadId = Thread.currentThread().getId();
+            try {
+                return Objects.isNull(allocationMeter) ? InvocationOutcome.invoke(invoker, holder, args)
+                        : allocationMeter.invoke(invoker, holder, args);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private boolean started() {
+            return threadId >= 0;
+        }
+
+        /**
+         * Prevent the task from running if it has not been claimed by the worker.
+         *
+         * @return true if the body will never run.
+         */
+        private boolean preventStart() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        private long cpuNanos(ThreadMXBean bean) {
+            if (!started() || cpuStartNanos < 0) {
+                return 0;
+            }
+            long cpuNanos = bean.getThreadCpuTime(threadId);
+            return cpuNanos < 0 ? 0 : cpuNanos - cpuStartNanos;
+        }
+    }
+}
@@ -0,0 +1,674 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.engine;
+
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.LogUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Parameter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>ResultCache caches the results of the {@link LeetcodeInvoker#invoke(Object, Object...)}
+ * calls of deterministic solutions, so that repeated runs of an unchanged solution
+ * skip the invocations.</p>
+ *
+ * <p>A result is keyed by the SHA-256 digest of the invoker {@link LeetcodeInvoker#toGenericString()},
+ * a hash of the bytecode of the solution source unit and its superclasses, and the canonical
+ * encoding of the arguments before the invocation. A changed solution class therefore never
+ * hits the results of its previous versions, and those results are removed from the disk
+ * tier the first time the changed class is invoked.</p>
+ *
+ * <p>The source unit is every class compiled from the source file of the solution class,
+ * including its nested classes and the package-private top-level helper classes, like a
+ * <tt>class UnionFind</tt> next to <tt>Solution</tt>. The source units of the non-JDK
+ * superclasses are hashed too. Note: the classes from other source files used by the
+ * solution are not hashed, and the solutions loaded from a jar only hash the bytecode
+ * of their top-level class, so clear the cache after changing those.</p>
+ *
+ * <p>There are two tiers: an in-memory LRU tier bounded by the entry count, and an
+ * optional on-disk tier under a directory, bounded by the total bytes and evicted
+ * by the least recent use across runs.</p>
+ *
+ * <p>The following invocations are not cached: the invokers returning void, since
+ * their results are the mutated arguments; the invocations mutating their arguments,
+ * like <tt>int removeDuplicates(int[] nums)</tt>, detected by encoding the arguments
+ * again after the invocation, since a hit could not mutate them; the invocations without a solution
+ * object or whose solution bytecode is not available; the arguments or results
+ * other than the primitive wrappers, strings, arrays, lists, {@link io.github.lcenhancer.base.struct.ListNode}s
+ * and {@link io.github.lcenhancer.base.struct.TreeNode}s; and the invocations that throw.</p>
+ *
+ * <p>Every hit returns a fresh copy of the result. ResultCache is thread-safe.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class ResultCache {
+
+    /**
+     * The magic of the result files.
+     */
+    private static final int MAGIC = 0x4C435243;
+
+    /**
+     * The suffix of the result files.
+     */
+    private static final String SUFFIX = ".lcr";
+
+    /**
+     * The bytecode hashes of the solution classes, null if not available.
+     */
+    private static final ClassValue<String> CLASS_HASHES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return hashClass(type);
+        }
+    };
+
+    /**
+     * The max entry count of the memory tier.
+     */
+    private final int maxMemoryEntries;
+
+    /**
+     * The memory tier in access order.
+     */
+    private final LinkedHashMap<String, byte[]> memory;
+
+    /**
+     * The directory of the disk tier, null if disabled.
+     */
+    private final File directory;
+
+    /**
+     * The max total bytes of the disk tier.
+     */
+    private final long maxDiskBytes;
+
+    /**
+     * The result file sizes of the disk tier in access order.
+     */
+    private final LinkedHashMap<File, Long> diskIndex = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The total bytes of the disk tier.
+     */
+    private long diskBytes = 0;
+
+    /**
+     * The checked solution directories of the disk tier.
+     */
+    private final Set<File> checkedDirectories = new HashSet<>();
+
+    /**
+     * The count of the memory tier hits.
+     */
+    private long memoryHits = 0;
+
+    /**
+     * The count of the disk tier hits.
+     */
+    private long diskHits = 0;
+
+    /**
+     * The count of the misses.
+     */
+    private long misses = 0;
+
+    /**
+     * Create a memory only ResultCache.
+     *
+     * @param maxMemoryEntries the max entry count of the memory tier.
+     */
+    public ResultCache(int maxMemoryEntries) {
+        this(maxMemoryEntries, null, 0);
+    }
+
+    /**
+     * Create a ResultCache with a disk tier.
+     *
+     * @param maxMemoryEntries the max entry count of the memory tier.
+     * @param directory        the directory of the disk tier, null to disable it.
+     * @param maxDiskBytes     the max total bytes of the disk tier.
+     */
+    public ResultCache(int maxMemoryEntries, File directory, long maxDiskBytes) {
+        AssertUtil.isTrue(maxMemoryEntries >= 0, "The maxMemoryEntries cannot be negative.");
+        AssertUtil.isTrue(maxDiskBytes >= 0, "The maxDiskBytes cannot be negative.");
+        this.maxMemoryEntries = maxMemoryEntries;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true);
+        this.directory = directory;
+        this.maxDiskBytes = maxDiskBytes;
+        if (Objects.nonNull(directory)) {
+            loadDiskIndex();
+        }
+    }
+
+    /**
+     * Invoke through the cache.
+     *
+     * @param invoker the leetcode invoker.
+     * @param object  the solution object.
+     * @param args    the arguments.
+     * @return the cached or the invoked result.
+     * @throws Throwable the failure of the invocation.
+     */
+    public Object invoke(LeetcodeInvoker invoker, Object object, Object... args) throws Throwable {
+        AssertUtil.nonNull(invoker, "The invoker cannot be null.");
+        byte[] arguments = encodeArguments(invoker, object, args);
+        String key = Objects.isNull(arguments) ? null : keyOf(invoker, object, arguments);
+        if (Objects.isNull(key)) {
+            return invoker.invoke(object, args);
+        }
+        byte[] encoded = lookup(key);
+        if (Objects.nonNull(encoded)) {
+            try {
+                return decode(encoded);
+            } catch (IOException e) {
+                LogUtil.logW("Cannot decode the cached result, invoke again: %s", e);
+            }
+        }
+        Object result = invoker.invoke(object, args);
+        // A hit could not mutate the arguments, so the solutions working in place are not cached.
+        encoded = Arrays.equals(arguments, encodeArguments(invoker, object, args)) ? encode(result) : null;
+        if (Objects.nonNull(encoded)) {
+            store(key, encoded);
+        }
+        return result;
+    }
+
+    /**
+     * Wrap the invoker so that its invocations go through the cache.
+     *
+     * @param invoker the leetcode invoker.
+     * @return the caching invoker.
+     */
+    public LeetcodeInvoker wrap(LeetcodeInvoker invoker) {
+        AssertUtil.nonNull(invoker, "The invoker cannot be null.");
+        return new CachingInvoker(invoker);
+    }
+
+    /**
+     * Get the count of the memory tier hits.
+     *
+     * @return the hit count.
+     */
+    public synchronized long getMemoryHitCount() {
+        return memoryHits;
+    }
+
+    /**
+     * Get the count of the disk tier hits.
+     *
+     * @return the hit count.
+     */
+    public synchronized long getDiskHitCount() {
+        return diskHits;
+    }
+
+    /**
+     * Get the count of the cacheable invocations missing both tiers.
+     *
+     * @return the miss count.
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Clear the memory tier. The disk tier is kept.
+     */
+    public synchronized void clearMemory() {
+        memory.clear();
+    }
+
+    /**
+     * Encode the arguments canonically, null if the invocation is not cacheable.
+     */
+    private static byte[] encodeArguments(LeetcodeInvoker invoker, Object object, Object[] args) throws IOException {
+        if (Objects.isNull(object) || invoker.getReturnType() == void.class) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(args.length);
+        try {
+            for (Object arg : args) {
+                ResultCodec.encode(out, arg);
+            }
+        } catch (ResultCodec.UnsupportedValueException e) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Compute the cache key, null if the solution bytecode is not available.
+     */
+    private String keyOf(LeetcodeInvoker invoker, Object object, byte[] arguments) {
+        String classHash = CLASS_HASHES.get(object.getClass());
+        if (Objects.isNull(classHash)) {
+            return null;
+        }
+        MessageDigest digest = sha256();
+        digest.update(arguments);
+        return hashOf(invoker.toGenericString()) + File.separator + classHash + File.separator
+                + toHex(digest.digest());
+    }
+
+    private synchronized byte[] lookup(String key) {
+        byte[] encoded = memory.get(key);
+        if (Objects.nonNull(encoded)) {
+            memoryHits++;
+            return encoded;
+        }
+        if (Objects.nonNull(directory)) {
+            encoded = readDisk(key);
+            if (Objects.nonNull(encoded)) {
+                diskHits++;
+                putMemory(key, encoded);
+                return encoded;
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    private synchronized void store(String key, byte[] encoded) {
+        putMemory(key, encoded);
+        if (Objects.nonNull(directory)) {
+            writeDisk(key, encoded);
+        }
+    }
+
+    private void putMemory(String key, byte[] encoded) {
+        if (maxMemoryEntries == 0) {
+            return;
+        }
+        memory.put(key, encoded);
+        if (memory.size() > maxMemoryEntries) {
+            Iterator<String> iterator = memory.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private byte[] readDisk(String key) {
+        File file = new File(directory, key + SUFFIX);
+        if (!diskIndex.containsKey(file)) {
+            return null;
+        }
+        try {
+            byte[] data = Files.readAllBytes(file.toPath());
+            diskIndex.get(file);
+            file.setLastModified(System.currentTimeMillis());
+            return data;
+        } catch (IOException e) {
+            removeDisk(file);
+            return null;
+        }
+    }
+
+    private void writeDisk(String key, byte[] encoded) {
+        File file = new File(directory, key + SUFFIX);
+        File solutionDirectory = file.getParentFile();
+        if (checkedDirectories.add(solutionDirectory)) {
+            removeStaleVersions(solutionDirectory);
+        }
+        File temp = null;
+        try {
+            Files.createDirectories(solutionDirectory.toPath());
+            temp = File.createTempFile(file.getName(), ".tmp", solutionDirectory);
+            Files.write(temp.toPath(), encoded);
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (Objects.nonNull(temp) && temp.exists() && !temp.delete()) {
+                temp.deleteOnExit();
+            }
+            LogUtil.logW("Cannot write the cached result to %s: %s", file, e);
+            return;
+        }
+        Long previous = diskIndex.put(file, (long) encoded.length);
+        diskBytes += encoded.length - (Objects.isNull(previous) ? 0 : previous);
+        Iterator<Map.Entry<File, Long>> iterator = diskIndex.entrySet().iterator();
+        while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+            Map.Entry<File, Long> eldest = iterator.next();
+            iterator.remove();
+            diskBytes -= eldest.getValue();
+            eldest.getKey().delete();
+        }
+    }
+
+    /**
+     * Remove the results of the other versions of the solution class.
+     */
+    private void removeStaleVersions(File solutionDirectory) {
+        File[] versions = solutionDirectory.getParentFile().listFiles();
+        if (Objects.isNull(versions)) {
+            return;
+        }
+        for (File version : versions) {
+            if (version.isDirectory() && !version.equals(solutionDirectory)) {
+                File[] files = version.listFiles();
+                for (File file : Objects.isNull(files) ? new File[0] : files) {
+                    removeDisk(file);
+                }
+                version.delete();
+            }
+        }
+    }
+
+    private void removeDisk(File file) {
+        Long size = diskIndex.remove(file);
+        if (Objects.nonNull(size)) {
+            diskBytes -= size;
+        }
+        file.delete();
+    }
+
+    /**
+     * Load the result files of the disk tier, from the least recently used.
+     */
+    private void loadDiskIndex() {
+        List<File> files = new ArrayList<>();
+        File[] invokers = directory.listFiles(File::isDirectory);
+        for (File invoker : Objects.isNull(invokers) ? new File[0] : invokers) {
+            File[] versions = invoker.listFiles(File::isDirectory);
+            for (File version : Objects.isNull(versions) ? new File[0] : versions) {
+                File[] results = version.listFiles((dir, name) -> name.endsWith(SUFFIX));
+                files.addAll(Arrays.asList(Objects.isNull(results) ? new File[0] : results));
+            }
+        }
+        files.sort(Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            long length = file.length();
+            diskIndex.put(file, length);
+            diskBytes += length;
+        }
+    }
+
+    private static byte[] encode(Object result) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        try {
+            ResultCodec.encode(out, result);
+        } catch (ResultCodec.UnsupportedValueException e) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object decode(byte[] encoded) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Bad magic of the cached result.");
+        }
+        return ResultCodec.decode(in);
+    }
+
+    /**
+     * Hash the bytecode of the source units of the class and its
+     * non-JDK superclasses, null if the bytecode is not available.
+     */
+    private static String hashClass(Class<?> klass) {
+        MessageDigest digest = sha256();
+        Set<Class<?>> hashedUnits = new HashSet<>();
+        try {
+            for (Class<?> type = klass; Objects.nonNull(type) && !isPlatformClass(type); type = type.getSuperclass()) {
+                Class<?> outer = type;
+                while (Objects.nonNull(outer.getEnclosingClass())) {
+                    outer = outer.getEnclosingClass();
+                }
+                if (hashedUnits.add(outer) && !hashSourceUnit(outer, digest)) {
+                    return null;
+                }
+            }
+        } catch (Exception e) {
+            LogUtil.logW("Cannot hash the bytecode of %s, its results are not cached: %s", klass.getName(), e);
+            return null;
+        }
+        return toHex(digest.digest());
+    }
+
+    private static boolean isPlatformClass(Class<?> type) {
+        String name = type.getName();
+        return Objects.isNull(type.getClassLoader()) || name.startsWith("java.") || name.startsWith("javax.")
+                || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    /**
+     * Hash the class files compiled from the source file of the top-level class.
+     *
+     * @return false if the bytecode is not available.
+     */
+    private static boolean hashSourceUnit(Class<?> outer, MessageDigest digest) throws Exception {
+        String simpleName = outer.getName().substring(outer.getName().lastIndexOf('.') + 1);
+        URL url = outer.getResource(simpleName + ".class");
+        if (Objects.isNull(url)) {
+            return false;
+        }
+        if (!"file".equals(url.getProtocol())) {
+            try (InputStream in = url.openStream()) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return true;
+        }
+        File classFile = new File(url.toURI());
+        String sourceFile = readSourceFile(Files.readAllBytes(classFile.toPath()));
+        File[] files = Objects.requireNonNull(classFile.getParentFile().listFiles((dir, name) -> name.endsWith(".class")));
+        Arrays.sort(files);
+        for (File file : files) {
+            String name = file.getName();
+            boolean nested = name.equals(simpleName + ".class") || name.startsWith(simpleName + "$");
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            if (nested || (Objects.nonNull(sourceFile) && sourceFile.equals(readSourceFile(bytes)))) {
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                digest.update(bytes);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read the <tt>SourceFile</tt> attribute of the class file.
+     *
+     * @return the source file name, null if absent or unreadable.
+     */
+    private static String readSourceFile(byte[] classBytes) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(classBytes));
+            if (in.readInt() != 0xCAFEBABE) {
+                return null;
+            }
+            in.skipBytes(4);
+            int poolCount = in.readUnsignedShort();
+            String[] utf8 = new String[poolCount];
+            for (int i = 1; i < poolCount; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1:
+                        utf8[i] = in.readUTF();
+                        break;
+                    case 5:
+                    case 6:
+                        // The long and double constants take two entries.
+                        in.skipBytes(8);
+                        i++;
+                        break;
+                    case 3:
+                    case 4:
+                    case 9:
+                    case 10:
+                    case 11:
+                    case 12:
+                    case 17:
+                    case 18:
+                        in.skipBytes(4);
+                        break;
+                    case 15:
+                        in.skipBytes(3);
+                        break;
+                    case 7:
+                    case 8:
+                    case 16:
+                    case 19:
+                    case 20:
+                        in.skipBytes(2);
+                        break;
+                    default:
+                        return null;
+                }
+            }
+            // The access flags, this class and super class, then the interfaces.
+            in.skipBytes(6);
+            in.skipBytes(2 * in.readUnsignedShort());
+            // The fields, then the methods.
+            for (int kind = 0; kind < 2; kind++) {
+                for (int members = in.readUnsignedShort(); members > 0; members--) {
+                    in.skipBytes(6);
+                    for (int attributes = in.readUnsignedShort(); attributes > 0; attributes--) {
+                        in.skipBytes(2);
+                        in.skipBytes(in.readInt());
+                    }
+                }
+            }
+            for (int attributes = in.readUnsignedShort(); attributes > 0; attributes--) {
+                String name = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if ("SourceFile".equals(name)) {
+                    return utf8[in.readUnsignedShort()];
+                }
+                in.skipBytes(length);
+            }
+            return null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String hashOf(String string) {
+        return toHex(sha256().digest(string.getBytes(StandardCharsets.UTF_8))).substring(0, 16);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The leetcode invoker invoking through the cache.
+     */
+    private final class CachingInvoker implements LeetcodeInvoker {
+
+        /**
+         * The delegate invoker.
+         */
+        private final LeetcodeInvoker delegate;
+
+        private CachingInvoker(LeetcodeInvoker delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Integer getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public int getParameterCount() {
+            return delegate.getParameterCount();
+        }
+
+        @Override
+        public Class<?>[] getParameterTypes() {
+            return delegate.getParameterTypes();
+        }
+
+        @Override
+        public Parameter[] getParameters() {
+            return delegate.getParameters();
+        }
+
+        @Override
+        public String getInvokerName() {
+            return delegate.getInvokerName();
+        }
+
+        @Override
+        public Class<?> getReturnType() {
+            return delegate.getReturnType();
+        }
+
+        @Override
+        public Object invoke(Object object, Object... args) throws Throwable {
+            return ResultCache.this.invoke(delegate, object, args);
+        }
+
+        @Override
+        public String toGenericString() {
+            return delegate.toGenericString();
+        }
+
+        @Override
+        public boolean isSuitable(Class<?> klass) {
+            return delegate.isSuitable(klass);
+        }
+
+        @Override
+        public int getOrder() {
+            return delegate.getOrder();
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.engine;
+
+import io.github.lcenhancer.base.struct.ListNode;
+import io.github.lcenhancer.base.struct.TreeNode;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>ResultCodec encodes the leetcode arguments and results into
+ * a canonical, type-tagged binary form, and decodes them back.</p>
+ *
+ * <p>The supported values are null, the primitive wrappers, strings,
+ * arrays and lists of the supported values, {@link ListNode}s (including
+ * cycles) and {@link TreeNode}s. Other values are rejected by
+ * {@link UnsupportedValueException}.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+final class ResultCodec {
+
+    // The value tags.
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte BYTE = 2;
+    private static final byte SHORT = 3;
+    private static final byte CHARACTER = 4;
+    private static final byte INTEGER = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte STRING = 9;
+    private static final byte INT_ARRAY = 10;
+    private static final byte LONG_ARRAY = 11;
+    private static final byte DOUBLE_ARRAY = 12;
+    private static final byte CHAR_ARRAY = 13;
+    private static final byte BOOLEAN_ARRAY = 14;
+    private static final byte OBJECT_ARRAY = 15;
+    private static final byte ARRAY_LIST = 16;
+    private static final byte LINKED_LIST = 17;
+    private static final byte LIST_NODE = 18;
+    private static final byte TREE_NODE = 19;
+
+    private ResultCodec() {
+    }
+
+    /**
+     * Thrown if a value cannot be encoded.
+     */
+    static final class UnsupportedValueException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedValueException(Class<?> klass) {
+            super("Unsupported value type: " + klass.getName(), null, false, false);
+        }
+    }
+
+    /**
+     * Encode the value.
+     *
+     * @param out   the data output.
+     * @param value the value.
+     * @throws UnsupportedValueException if the value is not supported.
+     */
+    static void encode(DataOutput out, Object value) throws IOException {
+        if (Objects.isNull(value)) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            out.writeByte(INT_ARRAY);
+            out.writeInt(array.length);
+            for (int element : array) {
+                out.writeInt(element);
+            }
+        } else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            out.writeByte(LONG_ARRAY);
+            out.writeInt(array.length);
+            for (long element : array) {
+                out.writeLong(element);
+            }
+        } else if (value instanceof double[]) {
+            double[] array = (double[]) value;
+            out.writeByte(DOUBLE_ARRAY);
+            out.writeInt(array.length);
+            for (double element : array) {
+                out.writeDouble(element);
+            }
+        } else if (value instanceof char[]) {
+            char[] array = (char[]) value;
+            out.writeByte(CHAR_ARRAY);
+            out.writeInt(array.length);
+            for (char element : array) {
+                out.writeChar(element);
+            }
+        } else if (value instanceof boolean[]) {
+            boolean[] array = (boolean[]) value;
+            out.writeByte(BOOLEAN_ARRAY);
+            out.writeInt(array.length);
+            for (boolean element : array) {
+                out.writeBoolean(element);
+            }
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            out.writeByte(OBJECT_ARRAY);
+            writeString(out, array.getClass().getComponentType().getName());
+            out.writeInt(array.length);
+            for (Object element : array) {
+                encode(out, element);
+            }
+        } else if (value instanceof ArrayList || value instanceof LinkedList
+                || (value instanceof List && value.getClass().getName().startsWith("java.util."))) {
+            List<?> list = (List<?>) value;
+            out.writeByte(value instanceof LinkedList ? LINKED_LIST : ARRAY_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                encode(out, element);
+            }
+        } else if (value instanceof ListNode) {
+            encodeListNode(out, (ListNode) value);
+        } else if (value instanceof TreeNode) {
+            encodeTreeNode(out, (TreeNode) value);
+        } else {
+            throw new UnsupportedValueException(value.getClass());
+        }
+    }
+
+    /**
+     * Decode a value encoded by {@link #encode(DataOutput, Object)}.
+     *
+     * @param in the data input.
+     * @return the value.
+     */
+    static Object decode(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case CHARACTER:
+                return in.readChar();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                return readString(in);
+            case INT_ARRAY: {
+                int[] array = new int[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readInt();
+                }
+                return array;
+            }
+            case LONG_ARRAY: {
+                long[] array = new long[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readLong();
+                }
+                return array;
+            }
+            case DOUBLE_ARRAY: {
+                double[] array = new double[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readDouble();
+                }
+                return array;
+            }
+            case CHAR_ARRAY: {
+                char[] array = new char[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readChar();
+                }
+                return array;
+            }
+            case BOOLEAN_ARRAY: {
+                boolean[] array = new boolean[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readBoolean();
+                }
+                return array;
+            }
+            case OBJECT_ARRAY: {
+                Class<?> componentType;
+                try {
+                    componentType = Class.forName(readString(in), false, ResultCodec.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+                Object[] array = (Object[]) Array.newInstance(componentType, in.readInt());
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = decode(in);
+                }
+                return array;
+            }
+            case ARRAY_LIST:
+            case LINKED_LIST: {
+                int size = in.readInt();
+                List<Object> list = tag == LINKED_LIST ? new LinkedList<>() : new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(decode(in));
+                }
+                return list;
+            }
+            case LIST_NODE:
+                return decodeListNode(in);
+            case TREE_NODE:
+                return decodeTreeNode(in);
+            default:
+                throw new IOException("Unknown value tag: " + tag);
+        }
+    }
+
+    private static void writeString(DataOutput out, String string) throws IOException {
+        out.writeInt(string.length());
+        out.writeChars(string);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        char[] chars = new char[in.readInt()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = in.readChar();
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Encode the node values, and the position the tail links back to, -1 if acyclic.
+     */
+    private static void encodeListNode(DataOutput out, ListNode head) throws IOException {
+        Map<ListNode, Integer> positions = new IdentityHashMap<>();
+        List<ListNode> nodes = new ArrayList<>();
+        ListNode node = head;
+        while (Objects.nonNull(node) && !positions.containsKey(node)) {
+            positions.put(node, nodes.size());
+            nodes.add(node);
+            node = node.next;
+        }
+        out.writeByte(LIST_NODE);
+        out.writeInt(nodes.size());
+        for (ListNode each : nodes) {
+            out.writeInt(each.val);
+        }
+        out.writeInt(Objects.isNull(node) ? -1 : positions.get(node));
+    }
+
+    private static ListNode decodeListNode(DataInput in) throws IOException {
+        int size = in.readInt();
+        ListNode[] nodes = new ListNode[size];
+        for (int i = 0; i < size; i++) {
+            nodes[i] = new ListNode(in.readInt());
+            if (i > 0) {
+                nodes[i - 1].next = nodes[i];
+            }
+        }
+        int cycle = in.readInt();
+        if (cycle >= 0) {
+            nodes[size - 1].next = nodes[cycle];
+        }
+        return nodes[0];
+    }
+
+    /**
+     * Encode the pre-order node values with a child presence mask per node.
+     */
+    private static void encodeTreeNode(DataOutput out, TreeNode root) throws IOException {
+        out.writeByte(TREE_NODE);
+        Deque<TreeNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            TreeNode node = stack.pop();
+            out.writeInt(node.val);
+            out.writeByte((Objects.nonNull(node.left) ? 1 : 0) | (Objects.nonNull(node.right) ? 2 : 0));
+            if (Objects.nonNull(node.right)) {
+                stack.push(node.right);
+            }
+            if (Objects.nonNull(node.left)) {
+                stack.push(node.left);
+            }
+        }
+    }
+
+    private static TreeNode decodeTreeNode(DataInput in) throws IOException {
+        TreeNode root = new TreeNode(in.readInt());
+        // The pending child slots in pre-order: the node and 1 for left, 2 for right.
+        Deque<Object[]> slots = new ArrayDeque<>();
+        pushSlots(slots, root, in.readByte());
+        while (!slots.isEmpty()) {
+            Object[] slot = slots.pop();
+            TreeNode parent = (TreeNode) slot[0];
+            TreeNode child = new TreeNode(in.readInt());
+            if ((Integer) slot[1] == 1) {
+                parent.left = child;
+            } else {
+                parent.right = child;
+            }
+            pushSlots(slots, child, in.readByte());
+        }
+        return root;
+    }
+
+    private static void pushSlots(Deque<Object[]> slots, TreeNode node, byte mask) {
+        if ((mask & 2) != 0) {
+            slots.push(new Object[]{node, 2});
+        }
+        if ((mask & 1) != 0) {
+            slots.push(new Object[]{node, 1});
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.generator;
+
+import io.github.lcenhancer.base.annotation.Require;
+import io.github.lcenhancer.base.exception.EnhancerException;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StringUtil;
+
+import java.lang.reflect.Parameter;
+import java.util.Objects;
+
+/**
+ * <p>GenerationConstraint is the set of size and value
+ * constraints used by {@link RandomCaseGenerator} to
+ * generate a single parameter.</p>
+ *
+ * <p>The constraints are declared through the {@link Require}
+ * annotation on the parameter. Every entry of
+ * {@link Require#values()} is a <tt>key=value</tt> pair,
+ * where a range is written as <tt>min..max</tt> (both inclusive):
+ * <ul>
+ *     <li><tt>size</tt>: the size of the outermost array, list,
+ *     linked list or tree. Default <tt>1..10</tt>.</li>
+ *     <li><tt>innerSize</tt>: the size of the nested arrays or lists.
+ *     Default is the same as <tt>size</tt>.</li>
+ *     <li><tt>length</tt>: the length of the strings. Default <tt>1..10</tt>.</li>
+ *     <li><tt>value</tt>: the range of the numeric values. Default <tt>-100..100</tt>.</li>
+ *     <li><tt>chars</tt>: the alphabet of the strings and chars.
+ *     Default <tt>abcdefghijklmnopqrstuvwxyz</tt>.</li>
+ *     <li><tt>rectangular</tt>: whether all nested arrays or lists of
+ *     the same level have the same size. Default <tt>false</tt>.</li>
+ * </ul>
+ *
+ * <p>The first class of {@link Require#types()} is used as the
+ * element type when it cannot be resolved from the parameter
+ * type, for example a raw {@link java.util.List}.</p>
+ *
+ * <pre>
+ * public int maxArea(&#64;Require(values = {"size=2..100000", "value=0..10000"}) int[] height)
+ * </pre>
+ *
+ * @author Jidcoo
+ * @see Require
+ * @see RandomCaseGenerator
+ * @since 1.0.0
+ */
+public final class GenerationConstraint {
+
+    /**
+     * The default constraint.
+     */
+    public static final GenerationConstraint DEFAULT = new GenerationConstraint();
+
+    private static final String DEFAULT_CHARS = "abcdefghijklmnopqrstuvwxyz";
+
+    private int minSize = 1;
+
+    private int maxSize = 10;
+
+    private int minInnerSize = -1;
+
+    private int maxInnerSize = -1;
+
+    private int minLength = 1;
+
+    private int maxLength = 10;
+
+    private long minValue = -100;
+
+    private long maxValue = 100;
+
+    private char[] chars = DEFAULT_CHARS.toCharArray();
+
+    private boolean rectangular = false;
+
+    private Class<?> elementType = null;
+
+    private GenerationConstraint() {
+    }
+
+    /**
+     * Create a GenerationConstraint from the {@link Require}
+     * annotations declared on the parameter.
+     *
+     * @param parameter the parameter.
+     * @return the constraint, or {@link #DEFAULT} if nothing is declared.
+     */
+    public static GenerationConstraint of(Parameter parameter) {
+        AssertUtil.nonNull(parameter, "The parameter cannot be null.");
+        return of(parameter.getAnnotationsByType(Require.class));
+    }
+
+    /**
+     * Create a GenerationConstraint from the {@link Require} annotations.
+     *
+     * @param requires the {@link Require} annotations.
+     * @return the constraint, or {@link #DEFAULT} if nothing is declared.
+     */
+    public static GenerationConstraint of(Require... requires) {
+        if (Objects.isNull(requires) || requires.length == 0) {
+            return DEFAULT;
+        }
+        GenerationConstraint constraint = new GenerationConstraint();
+        for (Require require : requires) {
+            for (String value : require.values()) {
+                if (!StringUtil.isBlank(value)) {
+                    constraint.apply(value.trim());
+                }
+            }
+            if (require.types().length > 0) {
+                constraint.elementType = require.types()[0];
+            }
+        }
+        AssertUtil.isTrue(constraint.minSize >= 0 && constraint.minSize <= constraint.maxSize,
+                "Illegal generation size range.");
+        AssertUtil.isTrue(constraint.minLength >= 0 && constraint.minLength <= constraint.maxLength,
+                "Illegal generation length range.");
+        AssertUtil.isTrue(constraint.minValue <= constraint.maxValue, "Illegal generation value range.");
+        AssertUtil.isTrue(constraint.chars.length > 0, "The generation chars cannot be empty.");
+        return constraint;
+    }
+
+    private void apply(String requirement) {
+        int eq = requirement.indexOf('=');
+        if (eq <= 0) {
+            throw new EnhancerException("Illegal generation requirement: " + requirement);
+        }
+        String key = requirement.substring(0, eq).trim();
+        String value = requirement.substring(eq + 1).trim();
+        switch (key) {
+            case "size":
+                minSize = (int) parseRange(value, 0);
+                maxSize = (int) parseRange(value, 1);
+                break;
+            case "innerSize":
+                minInnerSize = (int) parseRange(value, 0);
+                maxInnerSize = (int) parseRange(value, 1);
+                AssertUtil.isTrue(minInnerSize >= 0 && minInnerSize <= maxInnerSize,
+                        "Illegal generation inner size range.");
+                break;
+            case "length":
+                minLength = (int) parseRange(value, 0);
+                maxLength = (int) parseRange(value, 1);
+                break;
+            case "value":
+                minValue = parseRange(value, 0);
+                maxValue = parseRange(value, 1);
+                break;
+            case "chars":
+                chars = value.toCharArray();
+                break;
+            case "rectangular":
+                rectangular = Boolean.parseBoolean(value);
+                break;
+            default:
+                throw new EnhancerException("Unknown generation requirement: " + requirement);
+        }
+    }
+
+    private static long parseRange(String range, int bound) {
+        int sep = range.indexOf("..");
+        try {
+            if (sep < 0) {
+                return Long.parseLong(range);
+            }
+            return Long.parseLong((bound == 0 ? range.substring(0, sep) : range.substring(sep + 2)).trim());
+        } catch (NumberFormatException e) {
+            throw new EnhancerException("Illegal generation range: " + range, e);
+        }
+    }
+
+    /**
+     * Get the min size of the given nesting depth.
+     *
+     * @param depth the nesting depth, 0 for the outermost level.
+     * @return the min size.
+     */
+    public int getMinSize(int depth) {
+        return depth > 0 && minInnerSize >= 0 ? minInnerSize : minSize;
+    }
+
+    /**
+     * Get the max size of the given nesting depth.
+     *
+     * @param depth the nesting depth, 0 for the outermost level.
+     * @return the max size.
+     */
+    public int getMaxSize(int depth) {
+        return depth > 0 && maxInnerSize >= 0 ? maxInnerSize : maxSize;
+    }
+
+    /**
+     * Get the min string length.
+     *
+     * @return the min string length.
+     */
+    public int getMinLength() {
+        return minLength;
+    }
+
+    /**
+     * Get the max string length.
+     *
+     * @return the max string length.
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Get the min numeric value.
+     *
+     * @return the min numeric value.
+     */
+    public long getMinValue() {
+        return minValue;
+    }
+
+    /**
+     * Get the max numeric value.
+     *
+     * @return the max numeric value.
+     */
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Get the alphabet of the strings and chars.
+     *
+     * @return the alphabet.
+     */
+    public char[] getChars() {
+        return chars;
+    }
+
+    /**
+     * Whether all nested arrays or lists of the same level have the same size.
+     *
+     * @return true if rectangular.
+     */
+    public boolean isRectangular() {
+        return rectangular;
+    }
+
+    /**
+     * Get the element type declared by {@link Require#types()}.
+     *
+     * @return the element type, or null if not declared.
+     */
+    public Class<?> getElementType() {
+        return elementType;
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.generator;
+
+import io.github.lcenhancer.base.exception.EnhancerException;
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.struct.ListNode;
+import io.github.lcenhancer.base.struct.TreeNode;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.TypeUtil;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * <p>RandomCaseGenerator is a random test case generator
+ * driven by the parameter types of a {@link LeetcodeInvoker}.</p>
+ *
+ * <p>Each generated case consists of one Leetcode-format
+ * line per parameter, for example <tt>[1,2,3]</tt> for an
+ * <tt>int[]</tt>, <tt>"abc"</tt> for a {@link String} or
+ * <tt>[1,null,2]</tt> for a {@link TreeNode}. The supported
+ * types are the primitives and their wrappers, {@link String},
+ * arrays, (nested) {@link List}s, {@link ListNode} and {@link TreeNode}.
+ * The size and value constraints of every parameter are declared
+ * through {@link GenerationConstraint}.</p>
+ *
+ * <p>The generation is deterministic: the case at a given index
+ * only depends on the seed and the index, so any case can be
+ * regenerated on demand without generating the cases before it.</p>
+ *
+ * <p>Note: RandomCaseGenerator is not thread-safe.</p>
+ *
+ * @author Jidcoo
+ * @see GenerationConstraint
+ * @since 1.0.0
+ */
+public final class RandomCaseGenerator {
+
+    /**
+     * The golden ratio increment used to spread the case seeds.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The max supported nesting depth.
+     */
+    private static final int MAX_DEPTH = 16;
+
+    /**
+     * The generic parameter types.
+     */
+    private final Type[] types;
+
+    /**
+     * The parameter constraints.
+     */
+    private final GenerationConstraint[] constraints;
+
+    /**
+     * The base seed.
+     */
+    private final long seed;
+
+    /**
+     * The reusable line builder.
+     */
+    private final StringBuilder builder = new StringBuilder();
+
+    /**
+     * The fixed nested sizes of each depth for rectangular generation.
+     */
+    private final int[] rectangularSizes = new int[MAX_DEPTH];
+
+    /**
+     * Create a RandomCaseGenerator for the invoker.
+     *
+     * @param invoker the leetcode invoker.
+     * @param seed    the base seed.
+     */
+    public RandomCaseGenerator(LeetcodeInvoker invoker, long seed) {
+        AssertUtil.nonNull(invoker, "The invoker cannot be null.");
+        Parameter[] parameters = invoker.getParameters();
+        Class<?>[] parameterTypes = invoker.getParameterTypes();
+        int count = invoker.getParameterCount();
+        this.types = new Type[count];
+        this.constraints = new GenerationConstraint[count];
+        for (int i = 0; i < count; i++) {
+            if (Objects.nonNull(parameters) && i < parameters.length && Objects.nonNull(parameters[i])) {
+                this.types[i] = parameters[i].getParameterizedType();
+                this.constraints[i] = GenerationConstraint.of(parameters[i]);
+            } else {
+                this.types[i] = parameterTypes[i];
+                this.constraints[i] = GenerationConstraint.DEFAULT;
+            }
+        }
+        this.seed = seed;
+    }
+
+    /**
+     * Create a RandomCaseGenerator by parameter types and constraints.
+     *
+     * @param types       the generic parameter types.
+     * @param constraints the parameter constraints.
+     * @param seed        the base seed.
+     */
+    public RandomCaseGenerator(Type[] types, GenerationConstraint[] constraints, long seed) {
+        AssertUtil.nonNull(types, "The types cannot be null.");
+        AssertUtil.nonNull(constraints, "The constraints cannot be null.");
+        AssertUtil.isTrue(types.length == constraints.length,
+                "The length of types does not match the length of the constraints.");
+        this.types = types.clone();
+        this.constraints = constraints.clone();
+        this.seed = seed;
+    }
+
+    /**
+     * Get the parameter count, which is the line count of each case.
+     *
+     * @return the parameter count.
+     */
+    public int getParameterCount() {
+        return types.length;
+    }
+
+    /**
+     * Generate the case at the specified index.
+     *
+     * @param caseIndex the case index.
+     * @return the case lines.
+     */
+    public String[] generateCase(long caseIndex) {
+        String[] lines = new String[types.length];
+        generateCase(caseIndex, lines);
+        return lines;
+    }
+
+    /**
+     * Generate the case at the specified index into the given array.
+     *
+     * @param caseIndex the case index.
+     * @param lines     the array to store the case lines.
+     */
+    public void generateCase(long caseIndex, String[] lines) {
+        AssertUtil.isTrue(Objects.nonNull(lines) && lines.length >= types.length,
+                "The lines array is too small.");
+        SplittableRandom random = new SplittableRandom(mix64(seed + caseIndex * GOLDEN_GAMMA));
+        for (int i = 0; i < types.length; i++) {
+            builder.setLength(0);
+            Arrays.fill(rectangularSizes, -1);
+            generate(types[i], constraints[i], random, 0);
+            lines[i] = builder.toString();
+        }
+    }
+
+    private void generate(Type type, GenerationConstraint constraint, SplittableRandom random, int depth) {
+        AssertUtil.isTrue(depth < MAX_DEPTH, "The nesting depth of the type is too deep: " + type);
+        Class<?> raw = TypeUtil.obtainRawTypeOfType(type);
+        if (raw == int.class || raw == Integer.class || raw == short.class || raw == Short.class
+                || raw == byte.class || raw == Byte.class) {
+            builder.append(nextLong(random,
+                    Math.max(constraint.getMinValue(), Integer.MIN_VALUE),
+                    Math.min(constraint.getMaxValue(), Integer.MAX_VALUE)));
+        } else if (raw == long.class || raw == Long.class) {
+            builder.append(nextLong(random, constraint.getMinValue(), constraint.getMaxValue()));
+        } else if (raw == double.class || raw == Double.class || raw == float.class || raw == Float.class) {
+            double value = constraint.getMinValue()
+                    + random.nextDouble() * ((double) constraint.getMaxValue() - constraint.getMinValue());
+            builder.append(String.format(Locale.ROOT, "%.5f", value));
+        } else if (raw == boolean.class || raw == Boolean.class) {
+            builder.append(random.nextBoolean());
+        } else if (raw == char.class || raw == Character.class) {
+            char[] chars = constraint.getChars();
+            builder.append('"').append(chars[random.nextInt(chars.length)]).append('"');
+        } else if (raw == String.class) {
+            generateString(constraint, random);
+        } else if (raw == ListNode.class) {
+            generateListNode(constraint, random);
+        } else if (raw == TreeNode.class) {
+            generateTreeNode(constraint, random);
+        } else if (raw.isArray()) {
+            Type componentType = type instanceof GenericArrayType
+                    ? ((GenericArrayType) type).getGenericComponentType() : raw.getComponentType();
+            generateSequence(componentType, constraint, random, depth);
+        } else if (List.class.isAssignableFrom(raw)) {
+            Type elementType = TypeUtil.obtainListElementType(type);
+            if (elementType == Object.class && Objects.nonNull(constraint.getElementType())) {
+                elementType = constraint.getElementType();
+            }
+            generateSequence(elementType, constraint, random, depth);
+        } else {
+            throw new EnhancerException("Cannot generate random input for the type: " + type);
+        }
+    }
+
+    private void generateSequence(Type elementType, GenerationConstraint constraint,
+                                  SplittableRandom random, int depth) {
+        int size;
+        if (depth > 0 && constraint.isRectangular()) {
+            if (rectangularSizes[depth] < 0) {
+                rectangularSizes[depth] = nextSize(random, constraint.getMinSize(depth), constraint.getMaxSize(depth));
+            }
+            size = rectangularSizes[depth];
+        } else {
+            size = nextSize(random, constraint.getMinSize(depth), constraint.getMaxSize(depth));
+        }
+        builder.append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            generate(elementType, constraint, random, depth + 1);
+        }
+        builder.append(']');
+    }
+
+    private void generateString(GenerationConstraint constraint, SplittableRandom random) {
+        char[] chars = constraint.getChars();
+        int length = nextSize(random, constraint.getMinLength(), constraint.getMaxLength());
+        builder.append('"');
+        for (int i = 0; i < length; i++) {
+            builder.append(chars[random.nextInt(chars.length)]);
+        }
+        builder.append('"');
+    }
+
+    private void generateListNode(GenerationConstraint constraint, SplittableRandom random) {
+        int size = nextSize(random, constraint.getMinSize(0), constraint.getMaxSize(0));
+        long min = Math.max(constraint.getMinValue(), Integer.MIN_VALUE);
+        long max = Math.min(constraint.getMaxValue(), Integer.MAX_VALUE);
+        builder.append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(nextLong(random, min, max));
+        }
+        builder.append(']');
+    }
+
+    private void generateTreeNode(GenerationConstraint constraint, SplittableRandom random) {
+        int remaining = nextSize(random, constraint.getMinSize(0), constraint.getMaxSize(0));
+        long min = Math.max(constraint.getMinValue(), Integer.MIN_VALUE);
+        long max = Math.min(constraint.getMaxValue(), Integer.MAX_VALUE);
+        builder.append('[');
+        if (remaining > 0) {
+            // Emit the tree in level order: every placed node opens
+            // two child slots, and every slot is either a node or null.
+            builder.append(nextLong(random, min, max));
+            remaining--;
+            long openSlots = 2;
+            int pendingNulls = 0;
+            while (remaining > 0) {
+                // A slot must be filled when it is the last one left.
+                if (openSlots == 1 || random.nextBoolean()) {
+                    for (; pendingNulls > 0; pendingNulls--) {
+                        builder.append(",null");
+                    }
+                    builder.append(',').append(nextLong(random, min, max));
+                    remaining--;
+                    openSlots++;
+                } else {
+                    // Nulls are only emitted when followed by a node,
+                    // so that the trailing nulls are trimmed.
+                    pendingNulls++;
+                    openSlots--;
+                }
+            }
+        }
+        builder.append(']');
+    }
+
+    /**
+     * Scramble the case seed, since the random sequences of
+     * seeds that differ by {@link #GOLDEN_GAMMA} are just
+     * shifted copies of each other.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static int nextSize(SplittableRandom random, int min, int max) {
+        return min == max ? min : random.nextInt(min, max + 1);
+    }
+
+    private static long nextLong(SplittableRandom random, long min, long max) {
+        if (min == max) {
+            return min;
+        }
+        if (max != Long.MAX_VALUE) {
+            return random.nextLong(min, max + 1);
+        }
+        return min == Long.MIN_VALUE ? random.nextLong() : random.nextLong(min - 1, max) + 1;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.ThreadUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * <p>AsyncPrefetchInputStream reads the source input stream
+ * ahead on a background thread, so that a CPU-bound source
+ * (for example an inflating stream) overlaps with the
+ * consumer of this stream.</p>
+ *
+ * <p>The prefetched bytes are handed over in chunks through
+ * a bounded queue. An exception of the source is rethrown
+ * to the consumer when it reaches the failed position, and
+ * again on every later read.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+final class AsyncPrefetchInputStream extends InputStream {
+
+    /**
+     * The end of stream marker.
+     */
+    private static final Chunk EOF = new Chunk(new byte[0], 0, null);
+
+    /**
+     * The source input stream.
+     */
+    private final InputStream source;
+
+    /**
+     * The prefetched chunks.
+     */
+    private final BlockingQueue<Chunk> chunks;
+
+    /**
+     * The prefetching thread.
+     */
+    private final Thread prefetcher;
+
+    /**
+     * The current chunk.
+     */
+    private Chunk current = null;
+
+    /**
+     * The read position in the current chunk.
+     */
+    private int pos = 0;
+
+    /**
+     * The stream closed flag.
+     */
+    private volatile boolean closeFlag = false;
+
+    /**
+     * Create an AsyncPrefetchInputStream and start prefetching.
+     *
+     * @param source    the source input stream.
+     * @param chunkSize the chunk size.
+     * @param maxChunks the max count of the prefetched chunks.
+     */
+    AsyncPrefetchInputStream(InputStream source, int chunkSize, int maxChunks) {
+        AssertUtil.nonNull(source, "The source cannot be null.");
+        AssertUtil.isTrue(chunkSize > 0 && maxChunks > 0, "The chunkSize and maxChunks must be positive.");
+        this.source = source;
+        this.chunks = new ArrayBlockingQueue<>(maxChunks);
+        this.prefetcher = ThreadUtil.newDaemonThreadFactory("lc-enhancer-prefetch").newThread(() -> prefetch(chunkSize));
+        this.prefetcher.start();
+    }
+
+    private void prefetch(int chunkSize) {
+        try {
+            while (!closeFlag) {
+                byte[] data = new byte[chunkSize];
+                int length = 0;
+                // Fill the whole chunk to keep the handovers few.
+                for (int n; length < chunkSize && (n = source.read(data, length, chunkSize - length)) >= 0; ) {
+                    length += n;
+                }
+                if (length > 0) {
+                    chunks.put(new Chunk(data, length, null));
+                }
+                if (length < chunkSize) {
+                    chunks.put(EOF);
+                    return;
+                }
+            }
+        } catch (InterruptedException ignored) {
+            // Closed by the consumer.
+        } catch (Throwable t) {
+            // Hand over any failure, even an Error, or the consumer would wait forever.
+            try {
+                chunks.put(new Chunk(null, 0, t instanceof IOException ? (IOException) t : new IOException(t)));
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Make the current chunk readable.
+     *
+     * @return false if the end of stream is reached.
+     */
+    private boolean fill() throws IOException {
+        if (closeFlag) {
+            throw new IOException("Stream closed");
+        }
+        while (current == null || pos >= current.length) {
+            // The end of stream and the failure are terminal, since the prefetcher has exited.
+            if (current == EOF) {
+                return false;
+            }
+            if (current != null && current.error != null) {
+                throw current.error;
+            }
+            try {
+                current = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the prefetched bytes.");
+            }
+            pos = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return fill() ? current.data[pos++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(len, current.length - pos);
+        System.arraycopy(current.data, pos, b, off, n);
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return current == null || closeFlag ? 0 : current.length - pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closeFlag) {
+            closeFlag = true;
+            prefetcher.interrupt();
+            source.close();
+        }
+    }
+
+    /**
+     * A prefetched chunk.
+     */
+    private static final class Chunk {
+
+        private final byte[] data;
+
+        private final int length;
+
+        private final IOException error;
+
+        private Chunk(byte[] data, int length, IOException error) {
+            this.data = data;
+            this.length = length;
+            this.error = error;
+        }
+    }
+}
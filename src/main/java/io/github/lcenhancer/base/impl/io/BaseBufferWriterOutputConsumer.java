@@ -36,14 +36,32 @@ public abstract class BaseBufferWriterOutputConsumer implements OutputConsumer {
      */
     private final BufferedWriter bufferedWriter;
 
+    /**
+     * Whether to flush the BufferedWriter after each output.
+     */
+    private final boolean autoFlush;
+
     /**
      * Create a BaseBufferWriterOutputConsumer.
      *
      * @param bufferedWriter the BufferedWriter instance.
      */
     public BaseBufferWriterOutputConsumer(BufferedWriter bufferedWriter) {
+        this(bufferedWriter, true);
+    }
+
+    /**
+     * Create a BaseBufferWriterOutputConsumer.
+     *
+     * @param bufferedWriter the BufferedWriter instance.
+     * @param autoFlush      whether to flush the BufferedWriter after each output.
+     *                       If false, the outputs are flushed when the buffer is
+     *                       full and when this consumer is closed.
+     */
+    protected BaseBufferWriterOutputConsumer(BufferedWriter bufferedWriter, boolean autoFlush) {
         AssertUtil.nonNull(bufferedWriter, "The bufferedWriter cannot be null.");
         this.bufferedWriter = bufferedWriter;
+        this.autoFlush = autoFlush;
     }
 
     /**
@@ -54,6 +72,7 @@ public abstract class BaseBufferWriterOutputConsumer implements OutputConsumer {
     public BaseBufferWriterOutputConsumer(OutputStream outputStream) {
         AssertUtil.nonNull(outputStream, "The outputStream cannot be null.");
         this.bufferedWriter = new BufferedWriter(new OutputStreamWriter(outputStream));
+        this.autoFlush = true;
     }
 
     /**
@@ -67,13 +86,26 @@ public abstract class BaseBufferWriterOutputConsumer implements OutputConsumer {
             try {
                 this.bufferedWriter.write(output);
                 this.bufferedWriter.write('\n');
-                this.bufferedWriter.flush();
+                if (this.autoFlush) {
+                    this.bufferedWriter.flush();
+                }
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         }
     }
 
+    /**
+     * Open a writer to stream the next output in chunks.
+     * The chunks are written through to the BufferedWriter.
+     *
+     * @return the output writer.
+     */
+    @Override
+    public Writer openNextOutput() {
+        return new OutputWriter();
+    }
+
     /**
      * Closes this resource, relinquishing any underlying resources.
      * This method is invoked automatically on objects managed by the
@@ -133,4 +165,64 @@ public abstract class BaseBufferWriterOutputConsumer implements OutputConsumer {
     public int getOrder() {
         return 0;
     }
+
+    /**
+     * The writer of a streamed output.
+     */
+    private final class OutputWriter extends Writer {
+
+        /**
+         * Whether any chunk has been written.
+         */
+        private boolean written = false;
+
+        /**
+         * The writer closed flag.
+         */
+        private boolean closeFlag = false;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            ensureOpen();
+            if (len > 0) {
+                bufferedWriter.write(cbuf, off, len);
+                written = true;
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            ensureOpen();
+            if (len > 0) {
+                bufferedWriter.write(str, off, len);
+                written = true;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            bufferedWriter.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closeFlag) {
+                return;
+            }
+            closeFlag = true;
+            if (written) {
+                bufferedWriter.write('\n');
+                if (autoFlush) {
+                    bufferedWriter.flush();
+                }
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closeFlag) {
+                throw new IOException("The output writer is closed.");
+            }
+        }
+    }
 }
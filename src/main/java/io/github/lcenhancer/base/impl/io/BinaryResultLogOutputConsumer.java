@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.engine.InvocationOutcome;
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.interfaces.OutputConsumer;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * <p>BinaryResultLogOutputConsumer is a {@link OutputConsumer}
+ * that appends the results to a binary result log.</p>
+ *
+ * <p>The log starts with a header of the magic number
+ * {@link #MAGIC} and the format {@link #VERSION}, followed by
+ * length-prefixed records in the layout below (big-endian):
+ * <pre>
+ * int    record length, excluding this field
+ * long   case index
+ * int    invoker id, -1 if unknown
+ * byte   {@link InvocationOutcome.Status} ordinal
+ * long   latency nanos, -1 if unknown
+ * long   allocated bytes, -1 if unknown
+ * int    output length in bytes, -1 if the output is null
+ * byte[] UTF-8 output
+ * </pre>
+ * The length prefix allows a reader to skip a record without
+ * decoding it. Use {@link BinaryResultLogReader} to scan the log
+ * or to export it to text.</p>
+ *
+ * <p>Note: since the record length precedes the output, a record cannot
+ * be streamed to the underlying stream. The writer of {@link #openNextOutput()}
+ * collects the whole output in memory, so the outputs too large to be held
+ * as a string should be written to a text consumer instead.</p>
+ *
+ * @author Jidcoo
+ * @see BinaryResultLogReader
+ * @since 1.0.0
+ */
+public class BinaryResultLogOutputConsumer implements OutputConsumer {
+
+    /**
+     * The magic number of the binary result log: "LCRL".
+     */
+    public static final int MAGIC = 0x4C43524C;
+
+    /**
+     * The format version of the binary result log.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The fixed record size, excluding the record length prefix and the output bytes.
+     */
+    static final int FIXED_RECORD_SIZE = 8 + 4 + 1 + 8 + 8 + 4;
+
+    /**
+     * The default write buffer size.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The base DataOutputStream.
+     */
+    private final DataOutputStream outputStream;
+
+    /**
+     * The next case index for {@link #consumeNextOutput(String)}.
+     */
+    private long nextCaseIndex;
+
+    /**
+     * The output consumer closed flag.
+     */
+    private boolean closeFlag = false;
+
+    /**
+     * Create a BinaryResultLogOutputConsumer by output stream.
+     * The log header is written immediately.
+     *
+     * @param outputStream the output stream.
+     */
+    public BinaryResultLogOutputConsumer(OutputStream outputStream) {
+        this(outputStream, true);
+    }
+
+    /**
+     * Create a BinaryResultLogOutputConsumer by file. If the file
+     * already contains a log, the new records are appended to it,
+     * and the case indexes continue after its last record.
+     *
+     * @param file the file.
+     * @throws io.github.lcenhancer.base.exception.EnhancerException if the
+     *         file is neither empty nor a valid binary result log.
+     */
+    public BinaryResultLogOutputConsumer(File file) throws IOException {
+        this(scanNextCaseIndex(file), new FileOutputStream(file, true), file.length() == 0);
+    }
+
+    /**
+     * Create a BinaryResultLogOutputConsumer by file path.
+     *
+     * @param filePath the file path.
+     */
+    public BinaryResultLogOutputConsumer(String filePath) throws IOException {
+        this(new File(filePath));
+    }
+
+    private BinaryResultLogOutputConsumer(OutputStream outputStream, boolean writeHeader) {
+        this(0, outputStream, writeHeader);
+    }
+
+    private BinaryResultLogOutputConsumer(long nextCaseIndex, OutputStream outputStream, boolean writeHeader) {
+        AssertUtil.nonNull(outputStream, "The outputStream cannot be null.");
+        this.nextCaseIndex = nextCaseIndex;
+        this.outputStream = new DataOutputStream(new BufferedOutputStream(outputStream, DEFAULT_BUFFER_SIZE));
+        if (writeHeader) {
+            try {
+                this.outputStream.writeInt(MAGIC);
+                this.outputStream.writeShort(VERSION);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Validate an existing log file and find the case index after its last record.
+     *
+     * @param file the log file.
+     * @return the next case index, 0 if the file is empty or absent.
+     */
+    private static long scanNextCaseIndex(File file) throws IOException {
+        AssertUtil.nonNull(file, "The file cannot be null.");
+        if (file.length() == 0) {
+            return 0;
+        }
+        try (BinaryResultLogReader reader = new BinaryResultLogReader(file)) {
+            long lastOffset = -1;
+            for (long offset = reader.position(); reader.skip(1) == 1; offset = reader.position()) {
+                lastOffset = offset;
+            }
+            if (lastOffset < 0) {
+                return 0;
+            }
+            reader.seek(lastOffset);
+            return reader.next().getCaseIndex() + 1;
+        }
+    }
+
+    /**
+     * Consume a string output from method calls.
+     *
+     * <p>The output is logged with the next sequential case index
+     * and without invoker or measurement information.</p>
+     *
+     * @param output a string output.
+     */
+    @Override
+    public void consumeNextOutput(String output) {
+        consumeNextResult(nextCaseIndex, -1, InvocationOutcome.Status.OK, -1, -1, output);
+    }
+
+    /**
+     * Consume a result of a leetcode invoker.
+     *
+     * @param caseIndex the case index.
+     * @param invoker   the leetcode invoker.
+     * @param outcome   the invocation outcome.
+     * @param output    the printed output.
+     */
+    public void consumeNextResult(long caseIndex, LeetcodeInvoker invoker, InvocationOutcome outcome, String output) {
+        AssertUtil.nonNull(outcome, "The outcome cannot be null.");
+        Integer invokerId = Objects.isNull(invoker) ? null : invoker.getId();
+        consumeNextResult(caseIndex, Objects.isNull(invokerId) ? -1 : invokerId, outcome.getStatus(),
+                outcome.getElapsedNanos(), outcome.getAllocatedBytes(), output);
+    }
+
+    /**
+     * Consume a result record.
+     *
+     * @param caseIndex      the case index.
+     * @param invokerId      the invoker id, -1 if unknown.
+     * @param status         the outcome status.
+     * @param latencyNanos   the latency nanos, -1 if unknown.
+     * @param allocatedBytes the allocated bytes, -1 if unknown.
+     * @param output         the printed output.
+     */
+    public void consumeNextResult(long caseIndex, int invokerId, InvocationOutcome.Status status,
+                                  long latencyNanos, long allocatedBytes, String output) {
+        AssertUtil.nonNull(status, "The status cannot be null.");
+        if (closeFlag) {
+            return;
+        }
+        byte[] outputBytes = Objects.isNull(output) ? null : output.getBytes(StandardCharsets.UTF_8);
+        try {
+            outputStream.writeInt(FIXED_RECORD_SIZE + (Objects.isNull(outputBytes) ? 0 : outputBytes.length));
+            outputStream.writeLong(caseIndex);
+            outputStream.writeInt(invokerId);
+            outputStream.writeByte(status.ordinal());
+            outputStream.writeLong(latencyNanos);
+            outputStream.writeLong(allocatedBytes);
+            if (Objects.isNull(outputBytes)) {
+                outputStream.writeInt(-1);
+            } else {
+                outputStream.writeInt(outputBytes.length);
+                outputStream.write(outputBytes);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        nextCaseIndex = caseIndex + 1;
+    }
+
+    /**
+     * Flush the buffered records to the underlying stream.
+     */
+    public void flush() {
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     * This method is invoked automatically on objects managed by the
+     * {@code try}-with-resources statement.
+     *
+     * <p>While this interface method is declared to throw {@code
+     * Exception}, implementers are <em>strongly</em> encouraged to
+     * declare concrete implementations of the {@code close} method to
+     * throw more specific exceptions, or to throw no exception at all
+     * if the close operation cannot fail.
+     *
+     * <p> Cases where the close operation may fail require careful
+     * attention by implementers. It is strongly advised to relinquish
+     * the underlying resources and to internally <em>mark</em> the
+     * resource as closed, prior to throwing the exception. The {@code
+     * close} method is unlikely to be invoked more than once and so
+     * this ensures that the resources are released in a timely manner.
+     * Furthermore it reduces problems that could arise when the resource
+     * wraps, or is wrapped, by another resource.
+     *
+     * <p><em>Implementers of this interface are also strongly advised
+     * to not have the {@code close} method throw {@link
+     * InterruptedException}.</em>
+     * <p>
+     * This exception interacts with a thread's interrupted status,
+     * and runtime misbehavior is likely to occur if an {@code
+     * InterruptedException} is {@linkplain Throwable#addSuppressed
+     * suppressed}.
+     * <p>
+     * More generally, if it would cause problems for an
+     * exception to be suppressed, the {@code AutoCloseable.close}
+     * method should not throw it.
+     *
+     * <p>Note that unlike the {@link Closeable#close close}
+     * method of {@link Closeable}, this {@code close} method
+     * is <em>not</em> required to be idempotent.  In other words,
+     * calling this {@code close} method more than once may have some
+     * visible side effect, unlike {@code Closeable.close} which is
+     * required to have no effect if called more than once.
+     * <p>
+     * However, implementers of this interface are strongly encouraged
+     * to make their {@code close} methods idempotent.
+     *
+     * @throws Exception if this resource cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        if (!closeFlag) {
+            closeFlag = true;
+            outputStream.close();
+        }
+    }
+
+    /**
+     * Get the order of the object.
+     *
+     * @return the int order of the object.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
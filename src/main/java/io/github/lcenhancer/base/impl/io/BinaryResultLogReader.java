@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.engine.InvocationOutcome;
+import io.github.lcenhancer.base.exception.EnhancerException;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * <p>BinaryResultLogReader is a reader of the binary result log
+ * written by {@link BinaryResultLogOutputConsumer}.</p>
+ *
+ * <p>The records are read sequentially through a {@link FileChannel}.
+ * {@link #skip(long)} skips records by their length prefix without
+ * decoding them, and {@link #seek(long)} repositions the reader to a
+ * record offset obtained from {@link Record#getOffset()}.</p>
+ *
+ * @author Jidcoo
+ * @see BinaryResultLogOutputConsumer
+ * @since 1.0.0
+ */
+public final class BinaryResultLogReader implements AutoCloseable {
+
+    /**
+     * The log header size.
+     */
+    private static final int HEADER_SIZE = 4 + 2;
+
+    /**
+     * The default read buffer size.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final InvocationOutcome.Status[] STATUSES = InvocationOutcome.Status.values();
+
+    /**
+     * The log file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The read buffer, in read mode.
+     */
+    private ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+
+    /**
+     * The file offset of the next unread byte.
+     */
+    private long position;
+
+    /**
+     * Create a BinaryResultLogReader by file.
+     *
+     * @param file the log file.
+     */
+    public BinaryResultLogReader(File file) throws IOException {
+        AssertUtil.nonNull(file, "The file cannot be null.");
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.buffer.flip();
+        try {
+            if (!ensure(HEADER_SIZE) || buffer.getInt() != BinaryResultLogOutputConsumer.MAGIC) {
+                throw new EnhancerException("Not a binary result log: " + file);
+            }
+            short version = buffer.getShort();
+            if (version != BinaryResultLogOutputConsumer.VERSION) {
+                throw new EnhancerException("Unsupported binary result log version: " + version);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.position = HEADER_SIZE;
+    }
+
+    /**
+     * Create a BinaryResultLogReader by file path.
+     *
+     * @param filePath the log file path.
+     */
+    public BinaryResultLogReader(String filePath) throws IOException {
+        this(new File(filePath));
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the next record, null if the end of the log is reached.
+     */
+    public Record next() throws IOException {
+        if (!ensure(4)) {
+            return null;
+        }
+        long offset = position;
+        int length = buffer.getInt();
+        checkRecord(length >= BinaryResultLogOutputConsumer.FIXED_RECORD_SIZE, length);
+        checkRecord(ensure(length), length);
+        long caseIndex = buffer.getLong();
+        int invokerId = buffer.getInt();
+        int status = buffer.get();
+        long latencyNanos = buffer.getLong();
+        long allocatedBytes = buffer.getLong();
+        int outputLength = buffer.getInt();
+        String output = null;
+        if (outputLength >= 0) {
+            checkRecord(outputLength == length - BinaryResultLogOutputConsumer.FIXED_RECORD_SIZE, length);
+            output = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), outputLength,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + outputLength);
+        } else {
+            checkRecord(outputLength == -1 && length == BinaryResultLogOutputConsumer.FIXED_RECORD_SIZE, length);
+        }
+        checkRecord(status >= 0 && status < STATUSES.length, length);
+        position += 4 + length;
+        return new Record(offset, caseIndex, invokerId, STATUSES[status], latencyNanos, allocatedBytes, output);
+    }
+
+    /**
+     * Skip the next records without decoding them.
+     *
+     * @param count the record count to skip.
+     * @return the count of the skipped records.
+     */
+    public long skip(long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count && ensure(4)) {
+            int length = buffer.getInt();
+            checkRecord(length >= BinaryResultLogOutputConsumer.FIXED_RECORD_SIZE, length);
+            if (buffer.remaining() >= length) {
+                buffer.position(buffer.position() + length);
+                position += 4 + length;
+            } else {
+                seek(position + 4 + length);
+            }
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Reposition the reader to the record at the specified file offset.
+     *
+     * @param offset the record offset, see {@link Record#getOffset()}.
+     */
+    public void seek(long offset) throws IOException {
+        AssertUtil.isTrue(offset >= HEADER_SIZE, "Illegal record offset: " + offset);
+        channel.position(offset);
+        buffer.clear();
+        buffer.flip();
+        position = offset;
+    }
+
+    /**
+     * Get the file offset of the next record.
+     *
+     * @return the file offset.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Export the remaining records to text, one tab-separated
+     * record per line: case index, invoker id, status,
+     * latency nanos, allocated bytes and output.
+     *
+     * <p>The tabs, line breaks and backslashes in the output are escaped
+     * as <tt>\t</tt>, <tt>\n</tt>, <tt>\r</tt> and <tt>\\</tt>,
+     * and a null output is exported as <tt>\N</tt>, so that each record
+     * always takes exactly one line.</p>
+     *
+     * @param appendable the text destination.
+     * @return the count of the exported records.
+     */
+    public long exportToText(Appendable appendable) throws IOException {
+        AssertUtil.nonNull(appendable, "The appendable cannot be null.");
+        long count = 0;
+        for (Record record = next(); Objects.nonNull(record); record = next()) {
+            appendable.append(record.toString()).append('\n');
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Ensure that at least the given bytes are buffered.
+     *
+     * @param bytes the required bytes.
+     * @return false if the end of the log is reached before.
+     */
+    private boolean ensure(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        if (buffer.capacity() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(bytes, buffer.capacity() * 2));
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    private void checkRecord(boolean valid, int length) {
+        if (!valid) {
+            throw new EnhancerException("Corrupted binary result log record at offset " + position
+                    + ", record length: " + length);
+        }
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * <p>Record is a single record of the binary result log.</p>
+     */
+    public static final class Record {
+
+        private final long offset;
+
+        private final long caseIndex;
+
+        private final int invokerId;
+
+        private final InvocationOutcome.Status status;
+
+        private final long latencyNanos;
+
+        private final long allocatedBytes;
+
+        private final String output;
+
+        private Record(long offset, long caseIndex, int invokerId, InvocationOutcome.Status status,
+                       long latencyNanos, long allocatedBytes, String output) {
+            this.offset = offset;
+            this.caseIndex = caseIndex;
+            this.invokerId = invokerId;
+            this.status = status;
+            this.latencyNanos = latencyNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.output = output;
+        }
+
+        /**
+         * Get the file offset of this record.
+         *
+         * @return the record offset.
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Get the case index.
+         *
+         * @return the case index.
+         */
+        public long getCaseIndex() {
+            return caseIndex;
+        }
+
+        /**
+         * Get the invoker id.
+         *
+         * @return the invoker id, -1 if unknown.
+         */
+        public int getInvokerId() {
+            return invokerId;
+        }
+
+        /**
+         * Get the outcome status.
+         *
+         * @return the outcome status.
+         */
+        public InvocationOutcome.Status getStatus() {
+            return status;
+        }
+
+        /**
+         * Get the latency nanos.
+         *
+         * @return the latency nanos, -1 if unknown.
+         */
+        public long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        /**
+         * Get the allocated bytes.
+         *
+         * @return the allocated bytes, -1 if unknown.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * Get the printed output.
+         *
+         * @return the output.
+         */
+        public String getOutput() {
+            return output;
+        }
+
+        /**
+         * Record to a tab-separated string, with the output escaped.
+         *
+         * @return record string.
+         */
+        @Override
+        public String toString() {
+            return caseIndex + "\t" + invokerId + "\t" + status + "\t" + latencyNanos + "\t" + allocatedBytes
+                    + "\t" + escape(output);
+        }
+
+        /**
+         * Escape the output into a single tab-separated field.
+         */
+        private static String escape(String output) {
+            if (Objects.isNull(output)) {
+                return "\\N";
+            }
+            StringBuilder builder = null;
+            for (int i = 0, length = output.length(); i < length; i++) {
+                char c = output.charAt(i);
+                String escaped = c == '\t' ? "\\t" : c == '\n' ? "\\n" : c == '\r' ? "\\r" : c == '\\' ? "\\\\" : null;
+                if (Objects.isNull(escaped)) {
+                    if (Objects.nonNull(builder)) {
+                        builder.append(c);
+                    }
+                    continue;
+                }
+                if (Objects.isNull(builder)) {
+                    builder = new StringBuilder(length + 16).append(output, 0, i);
+                }
+                builder.append(escaped);
+            }
+            return Objects.isNull(builder) ? output : builder.toString();
+        }
+    }
+}
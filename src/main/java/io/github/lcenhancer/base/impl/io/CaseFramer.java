@@ -0,0 +1,375 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.exception.EnhancerException;
+import io.github.lcenhancer.base.interfaces.InputProvider;
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StringUtil;
+
+import java.util.Objects;
+
+/**
+ * <p>CaseFramer groups the lines of an {@link InputProvider}
+ * into cases, where each case is an argument line array
+ * sized by the parameter count of the leetcode invoker.</p>
+ *
+ * <p>The framer understands the following input layout:
+ * <ul>
+ *     <li>One parameter per line, the Leetcode testcase format.</li>
+ *     <li>A parameter spanning several lines, for example a
+ *     pretty-printed matrix: a line with unbalanced brackets
+ *     continues onto the following lines.</li>
+ *     <li>The Leetcode example format
+ *     <tt>Input: nums = [2,7,11,15], target = 9</tt>, which provides
+ *     all parameters of a case in one line. The <tt>Output:</tt>,
+ *     <tt>Explanation:</tt> and <tt>Example N:</tt> lines are skipped.</li>
+ *     <li>Comment lines starting with <tt>#</tt> or <tt>//</tt>, which are skipped.</li>
+ *     <li>Blank lines, which separate cases if {@link #setBlankLineSeparators(boolean)}
+ *     is enabled, or end the input otherwise, like
+ *     {@link BaseBufferReaderInputProvider#isEnd(String)}. A case between two
+ *     separators must have exactly the parameter count, and runs of blank
+ *     lines are skipped.</li>
+ * </ul>
+ *
+ * <p>The returned case arrays are reused between cases, so
+ * callers must copy them to keep the lines.</p>
+ *
+ * <p>Note: CaseFramer is not thread-safe.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class CaseFramer implements AutoCloseable {
+
+    /**
+     * The marker line returned for a blank line separating cases.
+     */
+    private static final String SEPARATOR = new String("");
+
+    /**
+     * The underlying input provider.
+     */
+    private final InputProvider provider;
+
+    /**
+     * The parameter count of each case.
+     */
+    private final int parameterCount;
+
+    /**
+     * The reused case array of {@link #nextCase()}.
+     */
+    private final String[] caseBuffer;
+
+    /**
+     * The reused builder of the multi-line parameters.
+     */
+    private final StringBuilder builder = new StringBuilder();
+
+    /**
+     * Whether blank lines separate cases instead of ending the input.
+     */
+    private boolean blankLineSeparators = false;
+
+    /**
+     * Whether a blank line separator is expected before the next case.
+     */
+    private boolean separatorExpected = false;
+
+    /**
+     * The count of the framed cases.
+     */
+    private long caseCount = 0;
+
+    /**
+     * The input ended flag.
+     */
+    private boolean ended = false;
+
+    /**
+     * Create a CaseFramer.
+     *
+     * @param provider       the input provider.
+     * @param parameterCount the parameter count of each case.
+     */
+    public CaseFramer(InputProvider provider, int parameterCount) {
+        AssertUtil.nonNull(provider, "The provider cannot be null.");
+        AssertUtil.isTrue(parameterCount > 0, "The parameterCount must be positive.");
+        this.provider = provider;
+        this.parameterCount = parameterCount;
+        this.caseBuffer = new String[parameterCount];
+    }
+
+    /**
+     * Create a CaseFramer for the leetcode invoker.
+     *
+     * @param provider the input provider.
+     * @param invoker  the leetcode invoker.
+     */
+    public CaseFramer(InputProvider provider, LeetcodeInvoker invoker) {
+        this(provider, invoker.getParameterCount());
+    }
+
+    /**
+     * Set whether blank lines separate cases instead of ending the input.
+     *
+     * @param blankLineSeparators true if blank lines separate cases.
+     */
+    public void setBlankLineSeparators(boolean blankLineSeparators) {
+        this.blankLineSeparators = blankLineSeparators;
+    }
+
+    /**
+     * Frame the next case.
+     *
+     * @return the reused case array, null if the input is ending.
+     * @throws EnhancerException if the input ends in the middle of a case.
+     */
+    public String[] nextCase() {
+        return frame(caseBuffer) ? caseBuffer : null;
+    }
+
+    /**
+     * Frame the next cases into the batch.
+     *
+     * <p>The arrays in the batch are reused, and the missing or
+     * mis-sized ones are created.</p>
+     *
+     * @param batch the case arrays to fill.
+     * @return the count of the framed cases, less than the batch size
+     * only if the input is ending.
+     */
+    public int nextCases(String[][] batch) {
+        AssertUtil.nonNull(batch, "The batch cannot be null.");
+        int count = 0;
+        while (count < batch.length) {
+            if (Objects.isNull(batch[count]) || batch[count].length != parameterCount) {
+                batch[count] = new String[parameterCount];
+            }
+            if (!frame(batch[count])) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Get the count of the framed cases.
+     *
+     * @return the case count.
+     */
+    public long getCaseCount() {
+        return caseCount;
+    }
+
+    /**
+     * Get the parameter count of each case.
+     *
+     * @return the parameter count.
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    private boolean frame(String[] lines) {
+        int filled = 0;
+        while (filled < parameterCount) {
+            String line = nextLine();
+            if (Objects.isNull(line)) {
+                if (filled > 0) {
+                    throw new EnhancerException("The input ends in the middle of case #" + caseCount
+                            + ", expected " + parameterCount + " parameters but got " + filled + ".");
+                }
+                return false;
+            }
+            if (line == SEPARATOR) {
+                separatorExpected = false;
+                if (filled > 0) {
+                    throw new EnhancerException("The case #" + caseCount + " ends at a blank line, expected "
+                            + parameterCount + " parameters but got " + filled + ".");
+                }
+                continue;
+            }
+            if (separatorExpected) {
+                throw new EnhancerException("The case #" + (caseCount - 1) + " is not followed by a blank line, "
+                        + "expected " + parameterCount + " parameters but got more: " + line);
+            }
+            if (startsWithIgnoreCase(line, "Input:")) {
+                AssertUtil.isTrue(filled == 0, "Unexpected example input line in the middle of case #"
+                        + caseCount + ": " + line);
+                filled = splitExample(line.substring(line.indexOf(':') + 1), lines);
+            } else {
+                lines[filled++] = line;
+            }
+        }
+        caseCount++;
+        separatorExpected = blankLineSeparators;
+        return true;
+    }
+
+    /**
+     * Read the next meaningful line, joining the continuation
+     * lines of a multi-line parameter.
+     *
+     * @return the line, {@link #SEPARATOR} for a blank line separating
+     * cases, null if the input is ending.
+     */
+    private String nextLine() {
+        while (!ended) {
+            String line = provider.provideNextInput();
+            if (Objects.isNull(line) || (StringUtil.isBlank(line) ? !blankLineSeparators : provider.isEnd(line))) {
+                ended = true;
+                return null;
+            }
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                return SEPARATOR;
+            }
+            if (isSkipped(trimmed)) {
+                continue;
+            }
+            int depth = bracketDepth(trimmed, 0);
+            if (depth <= 0) {
+                return trimmed;
+            }
+            builder.setLength(0);
+            builder.append(trimmed);
+            while (depth > 0) {
+                String continuation = provider.provideNextInput();
+                if (Objects.isNull(continuation)) {
+                    throw new EnhancerException("Unbalanced brackets in the input: " + builder);
+                }
+                continuation = continuation.trim();
+                builder.append(continuation);
+                depth = bracketDepth(continuation, depth);
+            }
+            return builder.toString();
+        }
+        return null;
+    }
+
+    private static boolean isSkipped(String trimmed) {
+        return trimmed.startsWith("#") || trimmed.startsWith("//")
+                || startsWithIgnoreCase(trimmed, "Output:")
+                || startsWithIgnoreCase(trimmed, "Explanation:")
+                || (startsWithIgnoreCase(trimmed, "Example") && trimmed.endsWith(":"));
+    }
+
+    private static boolean startsWithIgnoreCase(String string, String prefix) {
+        return string.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    /**
+     * Compute the bracket depth after the line, ignoring the brackets in strings.
+     */
+    private static int bracketDepth(CharSequence line, int depth) {
+        boolean quoted = false;
+        for (int i = 0, length = line.length(); i < length; i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == '[' || c == '{') {
+                depth++;
+            } else if (c == ']' || c == '}') {
+                depth--;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Split an example input <tt>a = 1, b = [1,2]</tt> into the parameter lines.
+     *
+     * @return the count of the split parameters.
+     */
+    private int splitExample(String example, String[] lines) {
+        int count = 0;
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0, length = example.length(); i <= length; i++) {
+            char c = i < length ? example.charAt(i) : ',';
+            if (quoted) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                }
+                continue;
+            }
+            if (c == '"') {
+                quoted = true;
+            } else if (c == '[' || c == '{') {
+                depth++;
+            } else if (c == ']' || c == '}') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                AssertUtil.isTrue(count < parameterCount, "Too many parameters in the example input: " + example);
+                lines[count++] = stripName(example.substring(start, i));
+                start = i + 1;
+            }
+        }
+        AssertUtil.isTrue(count == parameterCount, "Expected " + parameterCount
+                + " parameters but got " + count + " in the example input: " + example);
+        return count;
+    }
+
+    private static String stripName(String assignment) {
+        String trimmed = assignment.trim();
+        int eq = trimmed.indexOf('=');
+        if (eq > 0) {
+            String name = trimmed.substring(0, eq).trim();
+            if (isIdentifier(name)) {
+                return trimmed.substring(eq + 1).trim();
+            }
+        }
+        return trimmed;
+    }
+
+    private static boolean isIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     *
+     * <p>The underlying input provider is closed.</p>
+     *
+     * @throws Exception if this resource cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        provider.close();
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.LogUtil;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * <p>CaseOffsetIndex maps the case index of a test-case file
+ * to the byte offset of the first line of the case, where each
+ * case spans a fixed count of lines (the parameter count of
+ * the leetcode invoker).</p>
+ *
+ * <p>The index is built incrementally: a lookup beyond the
+ * indexed cases scans the file forward only as far as needed.
+ * It is persisted to a sidecar file next to the test-case file
+ * (see {@link #sidecarOf(File)}) when closed, together with the
+ * scan state, and is reused as long as the length and the last
+ * modified time of the test-case file are unchanged.</p>
+ *
+ * <p>Note: CaseOffsetIndex is not thread-safe.</p>
+ *
+ * @author Jidcoo
+ * @see IndexedFileInputProvider
+ * @since 1.0.0
+ */
+public final class CaseOffsetIndex implements AutoCloseable {
+
+    /**
+     * The magic number of the sidecar file: "LCIX".
+     */
+    private static final int MAGIC = 0x4C434958;
+
+    /**
+     * The format version of the sidecar file.
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * The sidecar file suffix.
+     */
+    private static final String SIDECAR_SUFFIX = ".lcidx";
+
+    /**
+     * The scan buffer size.
+     */
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The test-case file.
+     */
+    private final File file;
+
+    /**
+     * The line count of each case.
+     */
+    private final int linesPerCase;
+
+    /**
+     * The test-case file length.
+     */
+    private final long fileLength;
+
+    /**
+     * The test-case file last modified time.
+     */
+    private final long fileLastModified;
+
+    /**
+     * The case offsets.
+     */
+    private long[] offsets = new long[1024];
+
+    /**
+     * The count of the indexed cases.
+     */
+    private long caseCount = 0;
+
+    /**
+     * The file offset where the scan continues.
+     */
+    private long scanPos = 0;
+
+    /**
+     * The count of the lines scanned in the last indexed case.
+     */
+    private int scanLinesInCase = 0;
+
+    /**
+     * Whether the index is changed since loaded.
+     */
+    private boolean dirty = false;
+
+    /**
+     * The lazily opened channel for scanning.
+     */
+    private FileChannel scanChannel;
+
+    private CaseOffsetIndex(File file, int linesPerCase) {
+        this.file = file;
+        this.linesPerCase = linesPerCase;
+        this.fileLength = file.length();
+        this.fileLastModified = file.lastModified();
+    }
+
+    /**
+     * Open the index of the test-case file, loading the sidecar
+     * file if it is valid.
+     *
+     * @param file         the test-case file.
+     * @param linesPerCase the line count of each case.
+     * @return the index.
+     */
+    public static CaseOffsetIndex open(File file, int linesPerCase) {
+        AssertUtil.nonNull(file, "The file cannot be null.");
+        AssertUtil.isTrue(file.isFile(), "The file does not exist: " + file);
+        AssertUtil.isTrue(linesPerCase > 0, "The linesPerCase must be positive.");
+        CaseOffsetIndex index = new CaseOffsetIndex(file, linesPerCase);
+        File sidecar = sidecarOf(file);
+        if (sidecar.isFile() && !index.load(sidecar)) {
+            LogUtil.logI("The case index %s is stale, rebuild it.", sidecar);
+        }
+        return index;
+    }
+
+    /**
+     * Build the complete index of the test-case file and persist
+     * it to the sidecar file, unless a complete sidecar file exists.
+     *
+     * @param file         the test-case file.
+     * @param linesPerCase the line count of each case.
+     * @return the total case count.
+     */
+    public static long build(File file, int linesPerCase) throws IOException {
+        try (CaseOffsetIndex index = open(file, linesPerCase)) {
+            return index.getCaseCount();
+        }
+    }
+
+    /**
+     * Get the sidecar index file of the test-case file.
+     *
+     * @param file the test-case file.
+     * @return the sidecar file.
+     */
+    public static File sidecarOf(File file) {
+        return new File(file.getPath() + SIDECAR_SUFFIX);
+    }
+
+    /**
+     * Get the byte offset of the case.
+     *
+     * @param caseIndex the case index.
+     * @return the byte offset, -1 if the file has no such case.
+     */
+    public long offsetOf(long caseIndex) throws IOException {
+        AssertUtil.isTrue(caseIndex >= 0, "The case index cannot be negative.");
+        if (caseIndex >= caseCount) {
+            scan(caseIndex + 1, Long.MAX_VALUE);
+        }
+        return caseIndex < caseCount ? offsets[(int) caseIndex] : -1;
+    }
+
+    /**
+     * Get the first case starting at or after the byte offset.
+     *
+     * @param byteOffset the byte offset.
+     * @return the case index, or the case count if no case starts at or after the offset.
+     */
+    public long caseAtOrAfter(long byteOffset) throws IOException {
+        AssertUtil.isTrue(byteOffset >= 0, "The byte offset cannot be negative.");
+        scan(Long.MAX_VALUE, byteOffset);
+        int low = 0;
+        int high = (int) caseCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid] < byteOffset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the total case count, scanning the whole file if needed.
+     *
+     * @return the case count.
+     */
+    public long getCaseCount() throws IOException {
+        scan(Long.MAX_VALUE, Long.MAX_VALUE);
+        return caseCount;
+    }
+
+    /**
+     * Check if the whole file is indexed, so that no lookup scans the file.
+     *
+     * @return true if the index is complete.
+     */
+    public boolean isComplete() {
+        return scanPos >= fileLength;
+    }
+
+    /**
+     * Get the line count of each case.
+     *
+     * @return the line count of each case.
+     */
+    public int getLinesPerCase() {
+        return linesPerCase;
+    }
+
+    /**
+     * Get the length of the indexed test-case file.
+     *
+     * @return the file length.
+     */
+    public long getFileLength() {
+        return fileLength;
+    }
+
+    /**
+     * Scan the file forward until the target case count is indexed,
+     * or a case starting at or after the target offset is indexed.
+     */
+    private void scan(long targetCount, long targetOffset) throws IOException {
+        if (scanPos >= fileLength || reached(targetCount, targetOffset)) {
+            return;
+        }
+        if (scanChannel == null) {
+            scanChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        if (caseCount == 0) {
+            addOffset(0);
+        }
+        boolean reached = reached(targetCount, targetOffset);
+        while (scanPos < fileLength && !reached) {
+            buffer.clear();
+            int read = scanChannel.read(buffer, scanPos);
+            if (read <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            int i = 0;
+            while (i < read && !reached) {
+                if (bytes[i++] == '\n' && ++scanLinesInCase == linesPerCase) {
+                    scanLinesInCase = 0;
+                    long next = scanPos + i;
+                    if (next < fileLength) {
+                        addOffset(next);
+                        reached = reached(targetCount, targetOffset);
+                    }
+                }
+            }
+            scanPos += i;
+        }
+        dirty = true;
+    }
+
+    private boolean reached(long targetCount, long targetOffset) {
+        return caseCount >= targetCount || (caseCount > 0 && offsets[(int) caseCount - 1] >= targetOffset);
+    }
+
+    private void addOffset(long offset) {
+        AssertUtil.isTrue(caseCount < Integer.MAX_VALUE - 8, "Too many cases to index.");
+        if (caseCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        offsets[(int) caseCount++] = offset;
+    }
+
+    private boolean load(File sidecar) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(sidecar)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION || in.readInt() != linesPerCase
+                    || in.readLong() != fileLength || in.readLong() != fileLastModified) {
+                return false;
+            }
+            long scannedPos = in.readLong();
+            int linesInCase = in.readInt();
+            long count = in.readLong();
+            long[] loaded = new long[(int) Math.max(count, 1024)];
+            for (int i = 0; i < count; i++) {
+                loaded[i] = in.readLong();
+            }
+            this.offsets = loaded;
+            this.caseCount = count;
+            this.scanPos = scannedPos;
+            this.scanLinesInCase = linesInCase;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void save(File sidecar) throws IOException {
+        // A unique temp file lets several processes save the same index concurrently.
+        File temp = Files.createTempFile(sidecar.getAbsoluteFile().getParentFile().toPath(),
+                sidecar.getName(), ".tmp").toFile();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(linesPerCase);
+            out.writeLong(fileLength);
+            out.writeLong(fileLastModified);
+            out.writeLong(scanPos);
+            out.writeInt(scanLinesInCase);
+            out.writeLong(caseCount);
+            for (int i = 0; i < caseCount; i++) {
+                out.writeLong(offsets[i]);
+            }
+        }
+        Files.move(temp.toPath(), sidecar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     *
+     * <p>The index is persisted to the sidecar file if it is changed.
+     * A failure of persisting is logged and ignored, since the
+     * index can always be rebuilt.</p>
+     */
+    @Override
+    public void close() throws IOException {
+        if (scanChannel != null) {
+            scanChannel.close();
+            scanChannel = null;
+        }
+        if (dirty) {
+            dirty = false;
+            try {
+                save(sidecarOf(file));
+            } catch (IOException e) {
+                LogUtil.logW("Cannot save the case index of %s: %s", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,552 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.interfaces.InputProvider;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StringUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>CharsetLineInputProvider is a {@link InputProvider} that
+ * decodes lines with an explicit charset.</p>
+ *
+ * <p>Besides {@link #provideNextInput()}, the lines can be read by
+ * {@link #nextLine()} as a reusable {@link CharSequence} view backed
+ * by a growable char array, so the downstream tokenizers never need
+ * to materialize a string per line.</p>
+ *
+ * <p>The UTF-8, US-ASCII and ISO-8859-1 charsets are decoded directly
+ * from the bytes, with a fast path copying the ASCII bytes. Other
+ * charsets are decoded by a {@link Reader}. The malformed bytes are
+ * replaced by <tt>U+FFFD</tt>.</p>
+ *
+ * <p>A line is terminated by <tt>\n</tt> or <tt>\r\n</tt>. Unlike
+ * {@link java.io.BufferedReader#readLine()}, a single <tt>\r</tt>
+ * does not terminate a line.</p>
+ *
+ * <p>CharsetLineInputProvider uses {@link StringUtil#isBlank(CharSequence)}
+ * as the criterion for determining whether to end the input,
+ * like {@link BaseBufferReaderInputProvider}.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public class CharsetLineInputProvider implements InputProvider {
+
+    /**
+     * The default buffer size.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The replacement char of the malformed bytes.
+     */
+    private static final char REPLACEMENT = '\uFFFD';
+
+    /**
+     * The byte decoding of the ASCII-compatible charsets.
+     */
+    private enum ByteDecoding {
+        UTF_8, US_ASCII, ISO_8859_1
+    }
+
+    /**
+     * The input stream.
+     */
+    private final InputStream inputStream;
+
+    /**
+     * The decoding charset.
+     */
+    private final Charset charset;
+
+    /**
+     * The byte decoding, null if the lines are decoded by the reader.
+     */
+    private final ByteDecoding byteDecoding;
+
+    /**
+     * The reader of the other charsets.
+     */
+    private final Reader reader;
+
+    /**
+     * The byte buffer of the byte decoding.
+     */
+    private final byte[] bytes;
+
+    /**
+     * The char buffer of the reader.
+     */
+    private final char[] readerChars;
+
+    /**
+     * The next position in the buffer.
+     */
+    private int pos = 0;
+
+    /**
+     * The limit of the buffer.
+     */
+    private int limit = 0;
+
+    /**
+     * The input ended flag.
+     */
+    private boolean eof = false;
+
+    /**
+     * The growable chars of the current line.
+     */
+    private char[] lineChars = new char[256];
+
+    /**
+     * The length of the current line.
+     */
+    private int lineLength = 0;
+
+    /**
+     * The reusable view of the current line.
+     */
+    private final LineView lineView = new LineView();
+
+    /**
+     * The input provider closed flag.
+     */
+    private boolean closeFlag = false;
+
+    /**
+     * Create a CharsetLineInputProvider by input stream and charset.
+     *
+     * @param inputStream the input stream.
+     * @param charset     the charset.
+     */
+    public CharsetLineInputProvider(InputStream inputStream, Charset charset) {
+        this(inputStream, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a CharsetLineInputProvider by input stream and charset.
+     *
+     * @param inputStream the input stream.
+     * @param charset     the charset.
+     * @param bufferSize  the buffer size.
+     */
+    public CharsetLineInputProvider(InputStream inputStream, Charset charset, int bufferSize) {
+        AssertUtil.nonNull(inputStream, "The inputStream cannot be null.");
+        AssertUtil.nonNull(charset, "The charset cannot be null.");
+        AssertUtil.isTrue(bufferSize >= 16, "The bufferSize must be at least 16.");
+        this.inputStream = inputStream;
+        this.charset = charset;
+        this.byteDecoding = byteDecodingOf(charset);
+        if (Objects.nonNull(byteDecoding)) {
+            this.reader = null;
+            this.bytes = new byte[bufferSize];
+            this.readerChars = null;
+        } else {
+            this.reader = new InputStreamReader(inputStream, charset);
+            this.bytes = null;
+            this.readerChars = new char[bufferSize];
+        }
+    }
+
+    /**
+     * Create a CharsetLineInputProvider by file and charset.
+     *
+     * @param file    the file.
+     * @param charset the charset.
+     */
+    public CharsetLineInputProvider(File file, Charset charset) throws IOException {
+        this(Files.newInputStream(file.toPath()), charset);
+    }
+
+    /**
+     * Create a CharsetLineInputProvider by file path and charset.
+     *
+     * @param filePath the file path.
+     * @param charset  the charset.
+     */
+    public CharsetLineInputProvider(String filePath, Charset charset) throws IOException {
+        this(new File(filePath), charset);
+    }
+
+    private static ByteDecoding byteDecodingOf(Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return ByteDecoding.UTF_8;
+        }
+        if (StandardCharsets.US_ASCII.equals(charset)) {
+            return ByteDecoding.US_ASCII;
+        }
+        if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            return ByteDecoding.ISO_8859_1;
+        }
+        return null;
+    }
+
+    /**
+     * Get the decoding charset.
+     *
+     * @return the charset.
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Read the next line as a reusable view.
+     *
+     * <p>The view and its content are only valid until the next
+     * line is read, and {@link CharSequence#toString()} materializes
+     * the line as a string.</p>
+     *
+     * @return the line view, null if the input is ending.
+     */
+    public CharSequence nextLine() {
+        if (closeFlag) {
+            return null;
+        }
+        try {
+            boolean read = Objects.nonNull(byteDecoding) ? decodeBytes() : decodeChars();
+            return read ? lineView : null;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Provide a next string input.
+     *
+     * @return a string input.
+     */
+    @Override
+    public String provideNextInput() {
+        CharSequence line = nextLine();
+        return Objects.isNull(line) ? null : line.toString();
+    }
+
+    /**
+     * Determine if the input is ending.
+     *
+     * @param input a string input got from {@link #provideNextInput()}}.
+     * @return true if the input is ending.
+     */
+    @Override
+    public boolean isEnd(String input) {
+        return StringUtil.isBlank(input);
+    }
+
+    /**
+     * Decode the next line from the bytes.
+     *
+     * @return true if a line is read.
+     */
+    private boolean decodeBytes() throws IOException {
+        lineLength = 0;
+        boolean any = false;
+        while (true) {
+            if (pos >= limit && !fillBytes()) {
+                return any;
+            }
+            any = true;
+            // Fast path: copy the ASCII bytes until the line end or a non-ASCII byte.
+            ensureCapacity(lineLength + (limit - pos));
+            byte[] buffer = bytes;
+            char[] chars = lineChars;
+            int p = pos;
+            int length = lineLength;
+            int end = limit;
+            byte b = 0;
+            while (p < end && (b = buffer[p]) >= 0 && b != '\n') {
+                chars[length++] = (char) b;
+                p++;
+            }
+            pos = p;
+            lineLength = length;
+            if (p >= end) {
+                continue;
+            }
+            if (b == '\n') {
+                pos++;
+                stripCarriageReturn();
+                return true;
+            }
+            decodeNonAscii();
+        }
+    }
+
+    /**
+     * Decode the non-ASCII byte at the position.
+     */
+    private void decodeNonAscii() throws IOException {
+        int lead = bytes[pos] & 0xFF;
+        if (byteDecoding == ByteDecoding.ISO_8859_1) {
+            pos++;
+            appendChar((char) lead);
+            return;
+        }
+        if (byteDecoding == ByteDecoding.US_ASCII) {
+            pos++;
+            appendChar(REPLACEMENT);
+            return;
+        }
+        int continuations;
+        int codePoint;
+        int min;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            continuations = 1;
+            codePoint = lead & 0x1F;
+            min = 0x80;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            continuations = 2;
+            codePoint = lead & 0x0F;
+            min = 0x800;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            continuations = 3;
+            codePoint = lead & 0x07;
+            min = 0x10000;
+        } else {
+            pos++;
+            appendChar(REPLACEMENT);
+            return;
+        }
+        // A sequence may be split across several short reads of pipes or
+        // inflating streams, so read until it is complete or the input ends.
+        boolean more = true;
+        while (more && limit - pos <= continuations) {
+            more = fillBytes();
+        }
+        int available = Math.min(continuations, limit - pos - 1);
+        // A truncated sequence is replaced as a whole, like the JDK decoder.
+        int malformed = 1;
+        for (int i = 1; i <= available; i++) {
+            int b = bytes[pos + i];
+            if ((b & 0xC0) != 0x80) {
+                break;
+            }
+            malformed = i + 1;
+            codePoint = (codePoint << 6) | (b & 0x3F);
+            if (i == continuations) {
+                if (codePoint < min || codePoint > Character.MAX_CODE_POINT
+                        || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                    malformed = 1;
+                    break;
+                }
+                pos += continuations + 1;
+                if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    appendChar((char) codePoint);
+                } else {
+                    appendChar(Character.highSurrogate(codePoint));
+                    appendChar(Character.lowSurrogate(codePoint));
+                }
+                return;
+            }
+        }
+        pos += malformed;
+        appendChar(REPLACEMENT);
+    }
+
+    /**
+     * Compact the unread bytes and fill the byte buffer.
+     *
+     * @return true if any byte is read.
+     */
+    private boolean fillBytes() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (pos > 0) {
+            System.arraycopy(bytes, pos, bytes, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        int read;
+        do {
+            read = inputStream.read(bytes, limit, bytes.length - limit);
+        } while (read == 0);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    /**
+     * Decode the next line from the chars of the reader.
+     *
+     * @return true if a line is read.
+     */
+    private boolean decodeChars() throws IOException {
+        lineLength = 0;
+        boolean any = false;
+        while (true) {
+            if (pos >= limit) {
+                if (eof) {
+                    return any;
+                }
+                int read = reader.read(readerChars, 0, readerChars.length);
+                if (read < 0) {
+                    eof = true;
+                    return any;
+                }
+                pos = 0;
+                limit = read;
+                continue;
+            }
+            any = true;
+            int start = pos;
+            while (pos < limit && readerChars[pos] != '\n') {
+                pos++;
+            }
+            int count = pos - start;
+            ensureCapacity(lineLength + count);
+            System.arraycopy(readerChars, start, lineChars, lineLength, count);
+            lineLength += count;
+            if (pos < limit) {
+                pos++;
+                stripCarriageReturn();
+                return true;
+            }
+        }
+    }
+
+    private void stripCarriageReturn() {
+        if (lineLength > 0 && lineChars[lineLength - 1] == '\r') {
+            lineLength--;
+        }
+    }
+
+    private void appendChar(char c) {
+        ensureCapacity(lineLength + 1);
+        lineChars[lineLength++] = c;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > lineChars.length) {
+            lineChars = Arrays.copyOf(lineChars, Math.max(capacity, lineChars.length << 1));
+        }
+    }
+
+    /**
+     * The reusable view of the current line.
+     */
+    private final class LineView implements CharSequence {
+
+        @Override
+        public int length() {
+            return lineLength;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= lineLength) {
+                throw new IndexOutOfBoundsException("index: " + index + ", length: " + lineLength);
+            }
+            return lineChars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > lineLength || start > end) {
+                throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + lineLength);
+            }
+            return new String(lineChars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(lineChars, 0, lineLength);
+        }
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     * This method is invoked automatically on objects managed by the
+     * {@code try}-with-resources statement.
+     *
+     * <p>While this interface method is declared to throw {@code
+     * Exception}, implementers are <em>strongly</em> encouraged to
+     * declare concrete implementations of the {@code close} method to
+     * throw more specific exceptions, or to throw no exception at all
+     * if the close operation cannot fail.
+     *
+     * <p> Cases where the close operation may fail require careful
+     * attention by implementers. It is strongly advised to relinquish
+     * the underlying resources and to internally <em>mark</em> the
+     * resource as closed, prior to throwing the exception. The {@code
+     * close} method is unlikely to be invoked more than once and so
+     * this ensures that the resources are released in a timely manner.
+     * Furthermore it reduces problems that could arise when the resource
+     * wraps, or is wrapped, by another resource.
+     *
+     * <p><em>Implementers of this interface are also strongly advised
+     * to not have the {@code close} method throw {@link
+     * InterruptedException}.</em>
+     * <p>
+     * This exception interacts with a thread's interrupted status,
+     * and runtime misbehavior is likely to occur if an {@code
+     * InterruptedException} is {@linkplain Throwable#addSuppressed
+     * suppressed}.
+     * <p>
+     * More generally, if it would cause problems for an
+     * exception to be suppressed, the {@code AutoCloseable.close}
+     * method should not throw it.
+     *
+     * <p>Note that unlike the {@link Closeable#close close}
+     * method of {@link Closeable}, this {@code close} method
+     * is <em>not</em> required to be idempotent.  In other words,
+     * calling this {@code close} method more than once may have some
+     * visible side effect, unlike {@code Closeable.close} which is
+     * required to have no effect if called more than once.
+     * <p>
+     * However, implementers of this interface are strongly encouraged
+     * to make their {@code close} methods idempotent.
+     *
+     * @throws Exception if this resource cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        closeFlag = true;
+        if (Objects.nonNull(reader)) {
+            reader.close();
+        } else {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Get the order of the object.
+     *
+     * @return the int order of the object.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
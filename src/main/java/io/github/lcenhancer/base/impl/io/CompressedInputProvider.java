@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.interfaces.InputProvider;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * <p>CompressedInputProvider is a {@link InputProvider} and
+ * extends on {@link BaseBufferReaderInputProvider}.</p>
+ *
+ * <p>CompressedInputProvider streams a compressed {@link InputStream}
+ * or {@link File} as input source, without decompressing it to disk.
+ * The {@link CompressionFormat} is detected automatically from the
+ * magic bytes, and an uncompressed source is read as it is.
+ * </p>
+ *
+ * <p>The decompression can optionally run on a separate thread,
+ * so that the CPU-bound inflating overlaps with the parsing of
+ * the provided inputs.</p>
+ *
+ * @author Jidcoo
+ * @see CompressionFormat
+ * @since 1.0.0
+ */
+public class CompressedInputProvider extends BaseBufferReaderInputProvider {
+
+    /**
+     * The default buffer size.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The max count of the chunks decompressed ahead.
+     */
+    private static final int MAX_PREFETCH_CHUNKS = 16;
+
+    /**
+     * Create a CompressedInputProvider by abstract input stream.
+     *
+     * @param inputStream the compressed input stream.
+     * @param bufferSize  the buffer size of reading and decompressing.
+     * @param asyncDecode whether to decompress on a separate thread.
+     */
+    public CompressedInputProvider(InputStream inputStream, int bufferSize, boolean asyncDecode) throws IOException {
+        super(open(inputStream, bufferSize, asyncDecode));
+    }
+
+    /**
+     * Create a CompressedInputProvider by abstract input stream.
+     *
+     * @param inputStream the compressed input stream.
+     */
+    public CompressedInputProvider(InputStream inputStream) throws IOException {
+        this(inputStream, DEFAULT_BUFFER_SIZE, false);
+    }
+
+    /**
+     * Create a CompressedInputProvider by file.
+     *
+     * @param file        the compressed file.
+     * @param bufferSize  the buffer size of reading and decompressing.
+     * @param asyncDecode whether to decompress on a separate thread.
+     */
+    public CompressedInputProvider(File file, int bufferSize, boolean asyncDecode) throws IOException {
+        this(Files.newInputStream(file.toPath()), bufferSize, asyncDecode);
+    }
+
+    /**
+     * Create a CompressedInputProvider by file.
+     *
+     * @param file the compressed file.
+     */
+    public CompressedInputProvider(File file) throws IOException {
+        this(file, DEFAULT_BUFFER_SIZE, false);
+    }
+
+    /**
+     * Create a CompressedInputProvider by file path.
+     *
+     * @param filePath the compressed file path.
+     */
+    public CompressedInputProvider(String filePath) throws IOException {
+        this(new File(filePath));
+    }
+
+    private static BufferedReader open(InputStream inputStream, int bufferSize, boolean asyncDecode)
+            throws IOException {
+        AssertUtil.nonNull(inputStream, "The inputStream cannot be null.");
+        AssertUtil.isTrue(bufferSize > 0, "The bufferSize must be positive.");
+        InputStream in = new BufferedInputStream(inputStream, bufferSize);
+        try {
+            in = CompressionFormat.detect(in).decode(in, bufferSize);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+        if (asyncDecode) {
+            in = new AsyncPrefetchInputStream(in, bufferSize, MAX_PREFETCH_CHUNKS);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), bufferSize);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.interfaces.OutputConsumer;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.Deflater;
+
+/**
+ * <p>CompressedOutputConsumer is a {@link OutputConsumer} and
+ * extends on {@link BaseBufferWriterOutputConsumer}.</p>
+ *
+ * <p>CompressedOutputConsumer compresses the outputs into an
+ * {@link OutputStream} or a {@link File} in the given
+ * {@link CompressionFormat} and compression level.
+ * </p>
+ *
+ * <p>Note: the outputs are not flushed one by one, which would
+ * defeat the compression. They are complete only after
+ * {@link #close()}.</p>
+ *
+ * @author Jidcoo
+ * @see CompressionFormat
+ * @see CompressedInputProvider
+ * @since 1.0.0
+ */
+public class CompressedOutputConsumer extends BaseBufferWriterOutputConsumer {
+
+    /**
+     * The default buffer size.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Create a CompressedOutputConsumer by abstract output stream.
+     *
+     * @param outputStream the output stream.
+     * @param format       the compression format.
+     * @param level        the compression level, see {@link Deflater#setLevel(int)}.
+     * @param bufferSize   the buffer size of writing and compressing.
+     */
+    public CompressedOutputConsumer(OutputStream outputStream, CompressionFormat format, int level, int bufferSize)
+            throws IOException {
+        super(open(outputStream, format, level, bufferSize), false);
+    }
+
+    /**
+     * Create a gzip CompressedOutputConsumer by abstract output stream.
+     *
+     * @param outputStream the output stream.
+     */
+    public CompressedOutputConsumer(OutputStream outputStream) throws IOException {
+        this(outputStream, CompressionFormat.GZIP, Deflater.DEFAULT_COMPRESSION, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a gzip CompressedOutputConsumer by file.
+     *
+     * @param file the file.
+     */
+    public CompressedOutputConsumer(File file) throws IOException {
+        this(Files.newOutputStream(file.toPath()));
+    }
+
+    /**
+     * Create a gzip CompressedOutputConsumer by file path.
+     *
+     * @param filePath the file path.
+     */
+    public CompressedOutputConsumer(String filePath) throws IOException {
+        this(new File(filePath));
+    }
+
+    private static BufferedWriter open(OutputStream outputStream, CompressionFormat format, int level,
+                                       int bufferSize) throws IOException {
+        AssertUtil.nonNull(outputStream, "The outputStream cannot be null.");
+        AssertUtil.nonNull(format, "The compression format cannot be null.");
+        AssertUtil.isTrue(bufferSize > 0, "The bufferSize must be positive.");
+        OutputStream out = format.encode(outputStream, level, bufferSize);
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+    }
+}
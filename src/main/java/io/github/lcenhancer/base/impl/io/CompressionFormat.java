@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.exception.EnhancerException;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.*;
+
+/**
+ * <p>CompressionFormat is the compression format
+ * of the compressed input and output sources.</p>
+ *
+ * @author Jidcoo
+ * @see CompressedInputProvider
+ * @see CompressedOutputConsumer
+ * @since 1.0.0
+ */
+public enum CompressionFormat {
+
+    /**
+     * No compression.
+     */
+    NONE,
+
+    /**
+     * The gzip format, see {@link GZIPInputStream}.
+     */
+    GZIP,
+
+    /**
+     * The zlib format of a raw {@link Deflater} stream, see {@link InflaterInputStream}.
+     */
+    ZLIB;
+
+    /**
+     * The count of the leading bytes peeked to detect the format.
+     */
+    private static final int DETECTION_PEEK_SIZE = 512;
+
+    /**
+     * Detect the compression format by the magic bytes at the
+     * beginning of the input stream, without consuming them.
+     *
+     * <p>Since a zlib header is only 2 bytes, which a plain text may start
+     * with, a zlib candidate is confirmed by inflating the peeked bytes.</p>
+     *
+     * @param inputStream the input stream, which must support {@link InputStream#mark(int)}.
+     * @return the compression format.
+     * @throws EnhancerException if the format is recognized but not supported.
+     */
+    public static CompressionFormat detect(InputStream inputStream) throws IOException {
+        AssertUtil.isTrue(inputStream.markSupported(), "The inputStream must support mark.");
+        byte[] magic = new byte[DETECTION_PEEK_SIZE];
+        inputStream.mark(magic.length);
+        int read = 0;
+        try {
+            for (int n; read < magic.length && (n = inputStream.read(magic, read, magic.length - read)) > 0; ) {
+                read += n;
+            }
+        } finally {
+            inputStream.reset();
+        }
+        int b0 = read > 0 ? magic[0] & 0xff : -1;
+        int b1 = read > 1 ? magic[1] & 0xff : -1;
+        if (b0 == 0x1f && b1 == 0x8b) {
+            return GZIP;
+        }
+        // CM = 8 with a 32K window, a valid FCHECK and no preset dictionary (FDICT).
+        if (b0 == 0x78 && b1 >= 0 && ((b0 << 8) | b1) % 31 == 0 && (b1 & 0x20) == 0
+                && isInflatable(magic, read)) {
+            return ZLIB;
+        }
+        if (read >= 4 && b0 == 0x28 && b1 == 0xb5 && (magic[2] & 0xff) == 0x2f && (magic[3] & 0xff) == 0xfd) {
+            throw new EnhancerException("The zstd compression format is not supported, please recompress it with gzip.");
+        }
+        return NONE;
+    }
+
+    /**
+     * Check if the leading bytes of a zlib candidate inflate without error.
+     * If the leading bytes are the whole stream, they must inflate completely.
+     *
+     * @param bytes  the leading bytes.
+     * @param length the count of the leading bytes.
+     * @return true if no format error is found in the leading bytes.
+     */
+    private static boolean isInflatable(byte[] bytes, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, 0, length);
+            byte[] output = new byte[4096];
+            while (!inflater.finished() && !inflater.needsInput() && !inflater.needsDictionary()) {
+                if (inflater.inflate(output) == 0 && !inflater.finished() && !inflater.needsInput()) {
+                    return false;
+                }
+            }
+            return inflater.finished() || (inflater.needsInput() && length == bytes.length);
+        } catch (DataFormatException e) {
+            return false;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Wrap the compressed input stream into a decompressing input stream.
+     *
+     * @param inputStream the compressed input stream.
+     * @param bufferSize  the decompression buffer size.
+     * @return the decompressing input stream.
+     */
+    public InputStream decode(InputStream inputStream, int bufferSize) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPInputStream(inputStream, bufferSize);
+            case ZLIB:
+                return new InflaterInputStream(inputStream, new Inflater(), bufferSize) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            // The inflater is not owned by InflaterInputStream here.
+                            inf.end();
+                        }
+                    }
+                };
+            default:
+                return inputStream;
+        }
+    }
+
+    /**
+     * Wrap the output stream into a compressing output stream.
+     *
+     * @param outputStream the output stream.
+     * @param level        the compression level, from {@link Deflater#BEST_SPEED}
+     *                     to {@link Deflater#BEST_COMPRESSION}, or {@link Deflater#DEFAULT_COMPRESSION}.
+     * @param bufferSize   the compression buffer size.
+     * @return the compressing output stream.
+     */
+    public OutputStream encode(OutputStream outputStream, int level, int bufferSize) throws IOException {
+        AssertUtil.isTrue(level == Deflater.DEFAULT_COMPRESSION
+                        || (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION),
+                "Illegal compression level: " + level);
+        switch (this) {
+            case GZIP:
+                return new GZIPOutputStream(outputStream, bufferSize) {
+                    {
+                        def.setLevel(level);
+                    }
+                };
+            case ZLIB:
+                return new DeflaterOutputStream(outputStream, new Deflater(level), bufferSize) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            // The deflater is not owned by DeflaterOutputStream here.
+                            def.end();
+                        }
+                    }
+                };
+            default:
+                return outputStream;
+        }
+    }
+}
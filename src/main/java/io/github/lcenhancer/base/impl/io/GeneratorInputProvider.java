@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.generator.RandomCaseGenerator;
+import io.github.lcenhancer.base.interfaces.InputProvider;
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.io.Closeable;
+import java.util.Objects;
+
+/**
+ * <p>GeneratorInputProvider is a {@link InputProvider} that
+ * uses a {@link RandomCaseGenerator} as input source.</p>
+ *
+ * <p>The cases are generated lazily one by one, so that
+ * millions of cases can be provided without holding
+ * them in memory. Each case provides one line per
+ * parameter of the leetcode invoker.
+ * </p>
+ *
+ * @author Jidcoo
+ * @see RandomCaseGenerator
+ * @since 1.0.0
+ */
+public class GeneratorInputProvider implements InputProvider {
+
+    /**
+     * The case generator.
+     */
+    private final RandomCaseGenerator generator;
+
+    /**
+     * The exclusive end case index.
+     */
+    private final long endCase;
+
+    /**
+     * The current case lines.
+     */
+    private final String[] currentCase;
+
+    /**
+     * The current case index.
+     */
+    private long caseIndex;
+
+    /**
+     * The next line position in the current case.
+     */
+    private int linePos = 0;
+
+    /**
+     * The input provider closed flag.
+     */
+    private boolean closeFlag = false;
+
+    /**
+     * Create a GeneratorInputProvider by case generator.
+     *
+     * @param generator the case generator.
+     * @param startCase the first case index.
+     * @param caseCount the case count.
+     */
+    public GeneratorInputProvider(RandomCaseGenerator generator, long startCase, long caseCount) {
+        AssertUtil.nonNull(generator, "The generator cannot be null.");
+        AssertUtil.isTrue(generator.getParameterCount() > 0, "The generator must generate at least one parameter.");
+        AssertUtil.isTrue(startCase >= 0 && caseCount >= 0, "The startCase and caseCount cannot be negative.");
+        this.generator = generator;
+        this.caseIndex = startCase;
+        this.endCase = Long.MAX_VALUE - startCase < caseCount ? Long.MAX_VALUE : startCase + caseCount;
+        this.currentCase = new String[generator.getParameterCount()];
+    }
+
+    /**
+     * Create a GeneratorInputProvider for the leetcode invoker.
+     *
+     * @param invoker   the leetcode invoker.
+     * @param seed      the generation seed.
+     * @param caseCount the case count.
+     */
+    public GeneratorInputProvider(LeetcodeInvoker invoker, long seed, long caseCount) {
+        this(new RandomCaseGenerator(invoker, seed), 0, caseCount);
+    }
+
+    /**
+     * Provide a next string input.
+     *
+     * @return a string input.
+     */
+    @Override
+    public String provideNextInput() {
+        if (closeFlag || caseIndex >= endCase) {
+            return null;
+        }
+        if (linePos == 0) {
+            generator.generateCase(caseIndex, currentCase);
+        }
+        String input = currentCase[linePos];
+        currentCase[linePos] = null;
+        if (++linePos == currentCase.length) {
+            linePos = 0;
+            caseIndex++;
+        }
+        return input;
+    }
+
+    /**
+     * Determine if the input is ending.
+     *
+     * @param input a string input got from {@link #provideNextInput()}}.
+     * @return true if the input is ending.
+     */
+    @Override
+    public boolean isEnd(String input) {
+        return Objects.isNull(input);
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     * This method is invoked automatically on objects managed by the
+     * {@code try}-with-resources statement.
+     *
+     * <p>While this interface method is declared to throw {@code
+     * Exception}, implementers are <em>strongly</em> encouraged to
+     * declare concrete implementations of the {@code close} method to
+     * throw more specific exceptions, or to throw no exception at all
+     * if the close operation cannot fail.
+     *
+     * <p> Cases where the close operation may fail require careful
+     * attention by implementers. It is strongly advised to relinquish
+     * the underlying resources and to internally <em>mark</em> the
+     * resource as closed, prior to throwing the exception. The {@code
+     * close} method is unlikely to be invoked more than once and so
+     * this ensures that the resources are released in a timely manner.
+     * Furthermore it reduces problems that could arise when the resource
+     * wraps, or is wrapped, by another resource.
+     *
+     * <p><em>Implementers of this interface are also strongly advised
+     * to not have the {@code close} method throw {@link
+     * InterruptedException}.</em>
+     * <p>
+     * This exception interacts with a thread's interrupted status,
+     * and runtime misbehavior is likely to occur if an {@code
+     * InterruptedException} is {@linkplain Throwable#addSuppressed
+     * suppressed}.
+     * <p>
+     * More generally, if it would cause problems for an
+     * exception to be suppressed, the {@code AutoCloseable.close}
+     * method should not throw it.
+     *
+     * <p>Note that unlike the {@link Closeable#close close}
+     * method of {@link Closeable}, this {@code close} method
+     * is <em>not</em> required to be idempotent.  In other words,
+     * calling this {@code close} method more than once may have some
+     * visible side effect, unlike {@code Closeable.close} which is
+     * required to have no effect if called more than once.
+     * <p>
+     * However, implementers of this interface are strongly encouraged
+     * to make their {@code close} methods idempotent.
+     *
+     * @throws Exception if this resource cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        closeFlag = true;
+    }
+
+    /**
+     * Get the order of the object.
+     *
+     * @return the int order of the object.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.interfaces.InputProvider;
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StringUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * <p>IndexedFileInputProvider is a {@link InputProvider} that
+ * provides random access to the cases of a test-case file.</p>
+ *
+ * <p>Each case spans a fixed count of lines, normally the
+ * parameter count of the leetcode invoker. Based on a
+ * {@link CaseOffsetIndex}, the provider can start at any case
+ * ({@link #seekToCase(long)}), run a range of cases
+ * ({@link #selectRange(long, long)}), run every Nth case
+ * ({@link #selectStrided(long, long)}) or run a sampled subset
+ * ({@link #selectCases(long...)}, {@link #sampleCases(int, long)}),
+ * reading the file through {@link FileChannel} positional reads.
+ * </p>
+ *
+ * <p>Like {@link BaseBufferReaderInputProvider}, the provider uses
+ * {@link StringUtil#isBlank(CharSequence)} as the end criterion.</p>
+ *
+ * @author Jidcoo
+ * @see CaseOffsetIndex
+ * @since 1.0.0
+ */
+public class IndexedFileInputProvider implements InputProvider {
+
+    /**
+     * The default read buffer size.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The test-case file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The case offset index.
+     */
+    private final CaseOffsetIndex index;
+
+    /**
+     * The line count of each case.
+     */
+    private final int linesPerCase;
+
+    /**
+     * The read buffer, in read mode.
+     */
+    private ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+
+    /**
+     * The file offset of the next unread byte.
+     */
+    private long readPos = 0;
+
+    /**
+     * The file offset up to which the next fill reads, exclusive,
+     * {@link Long#MAX_VALUE} to fill the whole buffer.
+     */
+    private long fillLimit = Long.MAX_VALUE;
+
+    /**
+     * The selected cases, null if the cases run sequentially.
+     */
+    private long[] selection = null;
+
+    /**
+     * The next position in the selected cases.
+     */
+    private int selectionPos = 0;
+
+    /**
+     * The next case index when running sequentially.
+     */
+    private long nextCase = 0;
+
+    /**
+     * The exclusive end case index when running sequentially.
+     */
+    private long endCase = Long.MAX_VALUE;
+
+    /**
+     * The case index step when running sequentially.
+     */
+    private long caseStep = 1;
+
+    /**
+     * The index of the case being provided.
+     */
+    private long currentCase = -1;
+
+    /**
+     * The count of the lines provided in the current case.
+     */
+    private int lineInCase = 0;
+
+    /**
+     * The input provider closed flag.
+     */
+    private boolean closeFlag = false;
+
+    /**
+     * Create an IndexedFileInputProvider by file.
+     *
+     * @param file         the test-case file.
+     * @param linesPerCase the line count of each case.
+     */
+    public IndexedFileInputProvider(File file, int linesPerCase) throws IOException {
+        this.index = CaseOffsetIndex.open(file, linesPerCase);
+        this.linesPerCase = linesPerCase;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.buffer.flip();
+    }
+
+    /**
+     * Create an IndexedFileInputProvider by file for the leetcode invoker.
+     *
+     * @param file    the test-case file.
+     * @param invoker the leetcode invoker.
+     */
+    public IndexedFileInputProvider(File file, LeetcodeInvoker invoker) throws IOException {
+        this(file, invoker.getParameterCount());
+    }
+
+    /**
+     * Create an IndexedFileInputProvider by file path.
+     *
+     * @param filePath     the test-case file path.
+     * @param linesPerCase the line count of each case.
+     */
+    public IndexedFileInputProvider(String filePath, int linesPerCase) throws IOException {
+        this(new File(filePath), linesPerCase);
+    }
+
+    /**
+     * Run the cases sequentially from the specified case.
+     *
+     * @param caseIndex the first case index.
+     */
+    public void seekToCase(long caseIndex) {
+        selectRange(caseIndex, Long.MAX_VALUE);
+    }
+
+    /**
+     * Run the cases in the range sequentially.
+     *
+     * @param fromCase the first case index, inclusive.
+     * @param toCase   the last case index, exclusive.
+     */
+    public void selectRange(long fromCase, long toCase) {
+        AssertUtil.isTrue(fromCase >= 0 && fromCase <= toCase, "Illegal case range.");
+        this.selection = null;
+        this.nextCase = fromCase;
+        this.endCase = toCase;
+        this.caseStep = 1;
+        this.lineInCase = 0;
+    }
+
+    /**
+     * Run every <tt>step</tt>th case sequentially from the specified case.
+     *
+     * @param firstCase the first case index.
+     * @param step      the case index step.
+     */
+    public void selectStrided(long firstCase, long step) {
+        AssertUtil.isTrue(step > 0, "The case step must be positive.");
+        selectRange(firstCase, Long.MAX_VALUE);
+        this.caseStep = step;
+    }
+
+    /**
+     * Run the selected cases in the given order.
+     *
+     * @param caseIndexes the case indexes.
+     */
+    public void selectCases(long... caseIndexes) {
+        AssertUtil.nonNull(caseIndexes, "The caseIndexes cannot be null.");
+        for (long caseIndex : caseIndexes) {
+            AssertUtil.isTrue(caseIndex >= 0, "The case index cannot be negative.");
+        }
+        this.selection = caseIndexes.clone();
+        this.selectionPos = 0;
+        this.lineInCase = 0;
+    }
+
+    /**
+     * Run a random sample of the cases in the file order.
+     *
+     * @param count the sample size.
+     * @param seed  the sampling seed.
+     */
+    public void sampleCases(int count, long seed) throws IOException {
+        AssertUtil.isTrue(count >= 0, "The sample size cannot be negative.");
+        long total = index.getCaseCount();
+        long[] sample = new long[(int) Math.min(count, total)];
+        // Selection sampling keeps the sample sorted in one pass.
+        SplittableRandom random = new SplittableRandom(seed);
+        int picked = 0;
+        for (long i = 0; i < total && picked < sample.length; i++) {
+            if (random.nextLong(total - i) < sample.length - picked) {
+                sample[picked++] = i;
+            }
+        }
+        selectCases(Arrays.copyOf(sample, picked));
+    }
+
+    /**
+     * Get the index of the case being provided.
+     *
+     * @return the current case index, -1 if nothing is provided yet.
+     */
+    public long getCurrentCase() {
+        return currentCase;
+    }
+
+    /**
+     * Get the total case count of the file.
+     *
+     * @return the case count.
+     */
+    public long getCaseCount() throws IOException {
+        return index.getCaseCount();
+    }
+
+    /**
+     * Get the case offset index of the file.
+     *
+     * @return the case offset index.
+     */
+    protected CaseOffsetIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Provide a next string input.
+     *
+     * @return a string input.
+     */
+    @Override
+    public String provideNextInput() {
+        if (closeFlag) {
+            return null;
+        }
+        try {
+            if (lineInCase == 0) {
+                long caseIndex;
+                if (Objects.nonNull(selection)) {
+                    if (selectionPos >= selection.length) {
+                        return null;
+                    }
+                    caseIndex = selection[selectionPos++];
+                } else {
+                    if (nextCase >= endCase) {
+                        return null;
+                    }
+                    caseIndex = nextCase;
+                    nextCase = Long.MAX_VALUE - nextCase < caseStep ? Long.MAX_VALUE : nextCase + caseStep;
+                }
+                long offset = index.offsetOf(caseIndex);
+                if (offset < 0) {
+                    return null;
+                }
+                if (offset != readPos) {
+                    seek(caseIndex, offset);
+                }
+                currentCase = caseIndex;
+            }
+            lineInCase = (lineInCase + 1) % linesPerCase;
+            return readLine();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reposition the reader to the case offset, keeping the buffered
+     * bytes if the offset is inside them.
+     */
+    private void seek(long caseIndex, long offset) throws IOException {
+        long bufferStart = readPos - buffer.position();
+        if (offset >= bufferStart && offset <= readPos + buffer.remaining()) {
+            buffer.position((int) (offset - bufferStart));
+            readPos = offset;
+            return;
+        }
+        readPos = offset;
+        buffer.clear();
+        buffer.flip();
+        // A strided or selected case is rarely followed by the next case,
+        // so read only its own span instead of a whole buffer.
+        if (Objects.nonNull(selection) || caseStep > 1) {
+            long next = index.offsetOf(caseIndex + 1);
+            fillLimit = next > offset ? next : Long.MAX_VALUE;
+        }
+    }
+
+    private String readLine() throws IOException {
+        int scanFrom = 0;
+        while (true) {
+            int start = buffer.position();
+            for (int i = start + scanFrom; i < buffer.limit(); i++) {
+                if (buffer.get(i) == '\n') {
+                    return takeLine(i - start, 1);
+                }
+            }
+            scanFrom = buffer.remaining();
+            if (!fill()) {
+                return buffer.hasRemaining() ? takeLine(buffer.remaining(), 0) : null;
+            }
+        }
+    }
+
+    private String takeLine(int length, int terminatorLength) {
+        int start = buffer.position();
+        int end = length > 0 && buffer.get(start + length - 1) == '\r' ? length - 1 : length;
+        String line = new String(buffer.array(), buffer.arrayOffset() + start, end, StandardCharsets.UTF_8);
+        buffer.position(start + length + terminatorLength);
+        readPos += length + terminatorLength;
+        return line;
+    }
+
+    /**
+     * Read more bytes into the buffer.
+     *
+     * @return false if the end of file is reached.
+     */
+    private boolean fill() throws IOException {
+        if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        long filePos = readPos + buffer.position();
+        if (fillLimit > filePos && fillLimit - filePos < buffer.remaining()) {
+            buffer.limit(buffer.position() + (int) (fillLimit - filePos));
+        }
+        fillLimit = Long.MAX_VALUE;
+        int read = channel.read(buffer, filePos);
+        buffer.flip();
+        return read > 0;
+    }
+
+    /**
+     * Determine if the input is ending.
+     *
+     * @param input a string input got from {@link #provideNextInput()}}.
+     * @return true if the input is ending.
+     */
+    @Override
+    public boolean isEnd(String input) {
+        return StringUtil.isBlank(input);
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     * This method is invoked automatically on objects managed by the
+     * {@code try}-with-resources statement.
+     *
+     * <p>While this interface method is declared to throw {@code
+     * Exception}, implementers are <em>strongly</em> encouraged to
+     * declare concrete implementations of the {@code close} method to
+     * throw more specific exceptions, or to throw no exception at all
+     * if the close operation cannot fail.
+     *
+     * <p> Cases where the close operation may fail require careful
+     * attention by implementers. It is strongly advised to relinquish
+     * the underlying resources and to internally <em>mark</em> the
+     * resource as closed, prior to throwing the exception. The {@code
+     * close} method is unlikely to be invoked more than once and so
+     * this ensures that the resources are released in a timely manner.
+     * Furthermore it reduces problems that could arise when the resource
+     * wraps, or is wrapped, by another resource.
+     *
+     * <p><em>Implementers of this interface are also strongly advised
+     * to not have the {@code close} method throw {@link
+     * InterruptedException}.</em>
+     * <p>
+     * This exception interacts with a thread's interrupted status,
+     * and runtime misbehavior is likely to occur if an {@code
+     * InterruptedException} is {@linkplain Throwable#addSuppressed
+     * suppressed}.
+     * <p>
+     * More generally, if it would cause problems for an
+     * exception to be suppressed, the {@code AutoCloseable.close}
+     * method should not throw it.
+     *
+     * <p>Note that unlike the {@link Closeable#close close}
+     * method of {@link Closeable}, this {@code close} method
+     * is <em>not</em> required to be idempotent.  In other words,
+     * calling this {@code close} method more than once may have some
+     * visible side effect, unlike {@code Closeable.close} which is
+     * required to have no effect if called more than once.
+     * <p>
+     * However, implementers of this interface are strongly encouraged
+     * to make their {@code close} methods idempotent.
+     *
+     * @throws Exception if this resource cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        if (!closeFlag) {
+            closeFlag = true;
+            try {
+                channel.close();
+            } finally {
+                index.close();
+            }
+        }
+    }
+
+    /**
+     * Get the order of the object.
+     *
+     * @return the int order of the object.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -18,16 +18,53 @@ package io.github.lcenhancer.base.impl.io;
 
 import io.github.lcenhancer.base.interfaces.InputProvider;
 import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.ThreadUtil;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * <p>MultipleInputProvider is a {@link InputProvider} that
- * supports multiple <b>serial</b> input sources.</p>
+ * supports multiple input sources.</p>
+ *
+ * <p>The sources are consumed according to the {@link Mode}:
+ * <ul>
+ *     <li>{@link Mode#SERIAL}: the sources are drained one after
+ *     another on the caller thread.</li>
+ *     <li>{@link Mode#PREFETCH}: the sources are drained in order
+ *     by a background thread into a bounded queue, so the next
+ *     source is opened and read while the current one is consumed.</li>
+ *     <li>{@link Mode#INTERLEAVED}: up to {@link #setParallelism(int) parallelism}
+ *     sources are drained concurrently, and the cases are provided in
+ *     the order they become available. The lines of a case, as many as
+ *     the <tt>linesPerCase</tt>, are never split. Use it only for
+ *     order-insensitive runs.</li>
+ * </ul>
+ *
+ * <p>The input providers given to the constructors are all closed
+ * when this provider is closed, whether they are reached or not.
+ * The sources created by {@link #ofLazy(List, Mode, int)} are instead
+ * opened only when they are reached, in the background except for the
+ * serial mode, and closed as soon as they are exhausted.</p>
+ *
+ * <p>In the background modes, {@link #provideNextInput()} returns
+ * null once all sources end, and a failure of a source is rethrown
+ * from it as a {@link RuntimeException}.</p>
  *
  * @author Jidcoo
  * @see InputProvider
@@ -36,30 +73,219 @@ import java.util.stream.Collectors;
 public final class MultipleInputProvider implements InputProvider {
 
     /**
-     * All available input providers.
+     * The consuming modes of the sources.
+     */
+    public enum Mode {
+
+        /**
+         * Drain the sources one after another on the caller thread.
+         */
+        SERIAL,
+
+        /**
+         * Drain the sources in order on a background thread.
+         */
+        PREFETCH,
+
+        /**
+         * Drain the sources concurrently, providing cases in any order.
+         */
+        INTERLEAVED
+    }
+
+    /**
+     * The end marker of the prefetch queue.
+     */
+    private static final String[] END = new String[0];
+
+    /**
+     * The count of cases in a prefetched chunk.
+     */
+    private static final int CHUNK_CASES = 64;
+
+    /**
+     * The openers of all input sources.
+     */
+    private final List<Supplier<? extends InputProvider>> sources;
+
+    /**
+     * The input providers given to the constructors, closed all together
+     * by {@link #close()}, null for the lazily opened sources.
      */
     private final List<InputProvider> providers;
 
     /**
-     * Current enable input provider position.
+     * The opened and not yet exhausted input providers.
+     */
+    private final AtomicReferenceArray<InputProvider> opened;
+
+    /**
+     * The consuming mode.
+     */
+    private final Mode mode;
+
+    /**
+     * The count of lines per case.
+     */
+    private final int linesPerCase;
+
+    /**
+     * The capacity of the prefetch queue, in chunks.
+     */
+    private int prefetchCapacity = 16;
+
+    /**
+     * The count of concurrently drained sources of the interleaved mode.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Current enable input provider position of the serial mode.
      */
     private int pos = 0;
 
+    /**
+     * The prefetch queue of the background modes.
+     */
+    private BlockingQueue<String[]> queue;
+
+    /**
+     * The background executor.
+     */
+    private ExecutorService executor;
+
+    /**
+     * The first failure of the background sources.
+     */
+    private volatile Throwable failure;
+
+    /**
+     * Whether the end sentinel is published to the queue.
+     */
+    private final AtomicBoolean endPublished = new AtomicBoolean(false);
+
+    /**
+     * The chunk being consumed.
+     */
+    private String[] chunk = END;
+
+    /**
+     * The next line position in the chunk.
+     */
+    private int chunkPos = 0;
+
+    /**
+     * Whether all background sources have ended.
+     */
+    private boolean drained = false;
+
     /**
      * The input provider closed flag.
      */
-    private boolean closeFlag = false;
+    private volatile boolean closeFlag = false;
 
     /**
-     * Create a MultipleInputProvider by input provider list.
+     * Create a serial MultipleInputProvider by input provider list.
      *
      * @param inputProviderList the non-null and non-empty input provider list
      */
     public MultipleInputProvider(List<InputProvider> inputProviderList) {
+        this(inputProviderList, Mode.SERIAL);
+    }
+
+    /**
+     * Create a MultipleInputProvider by input provider list.
+     *
+     * @param inputProviderList the non-null and non-empty input provider list
+     * @param mode              the consuming mode.
+     */
+    public MultipleInputProvider(List<InputProvider> inputProviderList, Mode mode) {
+        this(inputProviderList, mode, 1);
+    }
+
+    /**
+     * Create a MultipleInputProvider by input provider list.
+     *
+     * @param inputProviderList the non-null and non-empty input provider list
+     * @param mode              the consuming mode.
+     * @param linesPerCase      the count of lines per case, which are kept together in the interleaved mode.
+     */
+    public MultipleInputProvider(List<InputProvider> inputProviderList, Mode mode, int linesPerCase) {
+        this(mode, linesPerCase, toSources(inputProviderList), nonNullProviders(inputProviderList));
+    }
+
+    private MultipleInputProvider(Mode mode, int linesPerCase, List<Supplier<? extends InputProvider>> sources,
+                                  List<InputProvider> providers) {
+        AssertUtil.notEmpty(sources, "The inputProviderList cannot be empty.");
+        AssertUtil.nonNull(mode, "The mode cannot be null.");
+        AssertUtil.isTrue(linesPerCase > 0, "The linesPerCase must be positive.");
+        this.sources = Collections.unmodifiableList(sources);
+        this.providers = providers;
+        this.opened = new AtomicReferenceArray<>(sources.size());
+        this.mode = mode;
+        this.linesPerCase = linesPerCase;
+    }
+
+    /**
+     * Create a MultipleInputProvider whose sources are opened only
+     * when they are reached.
+     *
+     * @param openers      the non-null and non-empty opener list of the input sources.
+     * @param mode         the consuming mode.
+     * @param linesPerCase the count of lines per case, which are kept together in the interleaved mode.
+     * @return the MultipleInputProvider.
+     */
+    public static MultipleInputProvider ofLazy(List<? extends Supplier<? extends InputProvider>> openers,
+                                               Mode mode, int linesPerCase) {
+        AssertUtil.nonNull(openers, "The openers cannot be null.");
+        return new MultipleInputProvider(mode, linesPerCase,
+                openers.stream().filter(Objects::nonNull).collect(Collectors.toList()), null);
+    }
+
+    private static List<InputProvider> nonNullProviders(List<InputProvider> inputProviderList) {
+        return inputProviderList.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private static List<Supplier<? extends InputProvider>> toSources(List<InputProvider> inputProviderList) {
         AssertUtil.nonNull(inputProviderList, "The inputProviderList cannot be null.");
-        inputProviderList = inputProviderList.stream().filter(Objects::nonNull).collect(Collectors.toList());
-        AssertUtil.notEmpty(inputProviderList, "The inputProviderList cannot be empty.");
-        this.providers = Collections.unmodifiableList(inputProviderList);
+        List<Supplier<? extends InputProvider>> sources = new ArrayList<>(inputProviderList.size());
+        for (InputProvider provider : inputProviderList) {
+            if (Objects.nonNull(provider)) {
+                sources.add(() -> provider);
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Set the capacity of the prefetch queue, in chunks of up to
+     * 64 cases. It must be set before the first input is provided.
+     *
+     * @param prefetchCapacity the positive capacity, 16 by default.
+     */
+    public void setPrefetchCapacity(int prefetchCapacity) {
+        AssertUtil.isTrue(prefetchCapacity > 0, "The prefetchCapacity must be positive.");
+        this.prefetchCapacity = prefetchCapacity;
+    }
+
+    /**
+     * Set the count of concurrently drained sources of the interleaved
+     * mode. It must be set before the first input is provided.
+     *
+     * @param parallelism the positive parallelism, 4 by default.
+     */
+    public void setParallelism(int parallelism) {
+        AssertUtil.isTrue(parallelism > 0, "The parallelism must be positive.");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Get the consuming mode.
+     *
+     * @return the mode.
+     */
+    public Mode getMode() {
+        return mode;
     }
 
     /**
@@ -72,15 +298,199 @@ public final class MultipleInputProvider implements InputProvider {
         if (closeFlag) {
             return null;
         }
-        if (pos >= providers.size()) {
-            return null;
+        if (mode == Mode.SERIAL) {
+            return provideSerially();
         }
-        String input = providers.get(pos).provideNextInput();
-        if (isEnd(input)) {
+        return provideQueued();
+    }
+
+    private String provideSerially() {
+        while (pos < sources.size()) {
+            InputProvider provider = open(pos);
+            String input = provider.provideNextInput();
+            if (!provider.isEnd(input)) {
+                return input;
+            }
+            closeQuietly(pos);
             pos++;
-            return provideNextInput();
         }
-        return input;
+        return null;
+    }
+
+    private String provideQueued() {
+        while (chunkPos >= chunk.length) {
+            if (drained) {
+                return null;
+            }
+            if (Objects.isNull(queue)) {
+                startBackground();
+            }
+            String[] next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            if (next == END) {
+                // The chunks queued before a failure are all delivered first.
+                drained = true;
+                if (Objects.nonNull(failure)) {
+                    throw new RuntimeException(failure);
+                }
+                return null;
+            }
+            chunk = next;
+            chunkPos = 0;
+        }
+        return chunk[chunkPos++];
+    }
+
+    private void startBackground() {
+        queue = new ArrayBlockingQueue<>(prefetchCapacity);
+        if (mode == Mode.PREFETCH) {
+            // One thread drains the sources in order, the other opens the next source meanwhile.
+            executor = Executors.newFixedThreadPool(2, ThreadUtil.newDaemonThreadFactory("lc-enhancer-multiple-input"));
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < sources.size() && !closeFlag; i++) {
+                        int next = i + 1;
+                        Future<?> opening = next < sources.size() ? executor.submit(() -> open(next)) : null;
+                        drain(i);
+                        if (Objects.nonNull(opening)) {
+                            opening.get();
+                        }
+                    }
+                } catch (ExecutionException e) {
+                    failure = e.getCause();
+                } catch (Throwable t) {
+                    failure = t;
+                } finally {
+                    putEnd();
+                    executor.shutdown();
+                }
+            });
+        } else {
+            executor = Executors.newFixedThreadPool(Math.min(parallelism, sources.size()),
+                    ThreadUtil.newDaemonThreadFactory("lc-enhancer-multiple-input"));
+            AtomicInteger remaining = new AtomicInteger(sources.size());
+            for (int i = 0; i < sources.size(); i++) {
+                int index = i;
+                executor.execute(() -> {
+                    try {
+                        if (!closeFlag && !endPublished.get()) {
+                            drain(index);
+                        }
+                    } catch (Throwable t) {
+                        if (Objects.isNull(failure)) {
+                            failure = t;
+                        }
+                        putEnd();
+                    } finally {
+                        if (remaining.decrementAndGet() == 0) {
+                            putEnd();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Drain the source into the prefetch queue in chunks of whole cases.
+     * A chunk is queued early if the consumer is starving.
+     */
+    private void drain(int index) throws InterruptedException {
+        InputProvider provider = open(index);
+        try {
+            int chunkLines = CHUNK_CASES * linesPerCase;
+            List<String> lines = new ArrayList<>(chunkLines);
+            int caseLines = 0;
+            while (!closeFlag) {
+                String input = provider.provideNextInput();
+                if (provider.isEnd(input)) {
+                    break;
+                }
+                lines.add(input);
+                if (++caseLines == linesPerCase) {
+                    caseLines = 0;
+                    if (lines.size() >= chunkLines || queue.isEmpty()) {
+                        if (!publish(lines.toArray(new String[0]))) {
+                            return;
+                        }
+                        lines.clear();
+                    }
+                }
+            }
+            if (!lines.isEmpty()) {
+                publish(lines.toArray(new String[0]));
+            }
+        } finally {
+            closeQuietly(index);
+        }
+    }
+
+    /**
+     * Queue a chunk, unless this provider is closed or the end is published.
+     *
+     * @return true if the chunk is queued.
+     */
+    private boolean publish(String[] lines) throws InterruptedException {
+        while (!closeFlag && !endPublished.get()) {
+            if (queue.offer(lines, 100, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Queue the end sentinel once, after the chunks queued so far.
+     */
+    private void putEnd() {
+        if (!endPublished.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (!closeFlag && !queue.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                // Wait for the consumer to make room.
+            }
+        } catch (InterruptedException ignored) {
+            // Closed while the queue is full.
+        }
+    }
+
+    private InputProvider open(int index) {
+        InputProvider provider = opened.get(index);
+        if (Objects.isNull(provider)) {
+            provider = sources.get(index).get();
+            AssertUtil.nonNull(provider, "The input source #" + index + " cannot be opened as null.");
+            opened.set(index, provider);
+            if (closeFlag) {
+                closeQuietly(index);
+            }
+        }
+        return provider;
+    }
+
+    /**
+     * Release an exhausted source, which is closed now only if lazily opened.
+     */
+    private void closeQuietly(int index) {
+        InputProvider provider = opened.getAndSet(index, null);
+        if (Objects.isNull(providers)) {
+            closeQuietly(provider);
+        }
+    }
+
+    private static void closeQuietly(InputProvider provider) {
+        if (Objects.nonNull(provider)) {
+            try {
+                provider.close();
+            } catch (Exception ignored) {
+            }
+        }
     }
 
     /**
@@ -94,10 +504,13 @@ public final class MultipleInputProvider implements InputProvider {
         if (closeFlag) {
             return true;
         }
-        if (pos >= providers.size()) {
+        if (mode != Mode.SERIAL) {
+            return Objects.isNull(input);
+        }
+        if (pos >= sources.size()) {
             return true;
         }
-        return providers.get(pos).isEnd(input);
+        return open(pos).isEnd(input);
     }
 
     /**
@@ -148,10 +561,19 @@ public final class MultipleInputProvider implements InputProvider {
     @Override
     public void close() throws Exception {
         closeFlag = true;
-        for (InputProvider provider : providers) {
-            try {
-                provider.close();
-            } catch (Exception ignored) {
+        if (Objects.nonNull(executor)) {
+            executor.shutdownNow();
+        }
+        if (Objects.nonNull(queue)) {
+            // Unblock the workers waiting for room.
+            queue.clear();
+        }
+        for (int i = 0; i < opened.length(); i++) {
+            closeQuietly(i);
+        }
+        if (Objects.nonNull(providers)) {
+            for (InputProvider provider : providers) {
+                closeQuietly(provider);
             }
         }
     }
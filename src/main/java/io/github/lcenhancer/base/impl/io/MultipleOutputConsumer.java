@@ -18,43 +18,197 @@ package io.github.lcenhancer.base.impl.io;
 
 import io.github.lcenhancer.base.interfaces.OutputConsumer;
 import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.LogUtil;
+import io.github.lcenhancer.base.utils.ThreadUtil;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * <p>MultipleOutputConsumer is a {@link OutputConsumer} that
  * supports multiple <b>parallel</b> output sources.</p>
  *
+ * <p>In the {@link Mode#SERIAL} mode, every output is written to
+ * all consumers one after another on the caller thread. In the
+ * {@link Mode#FAN_OUT} mode, every consumer gets its own bounded
+ * queue and writer thread, so a slow consumer does not throttle
+ * the others until its queue is full. The caller then waits for
+ * the queue, or the output is dropped for that consumer if
+ * {@link #setDropOnOverflow(boolean)} is enabled.</p>
+ *
+ * <p>The writer of {@link #openNextOutput()} streams the chunks to
+ * the writers of all consumers in the {@link Mode#SERIAL} mode. In the
+ * {@link Mode#FAN_OUT} mode, the writer threads consume whole outputs
+ * in order, so the chunks are collected once and queued as one output.</p>
+ *
+ * <p>The failure of a consumer never affects the others. The first
+ * failure of each consumer is logged, and all failures are counted
+ * by {@link #getFailureCount(int)}.</p>
+ *
  * @author Jidcoo
  * @see OutputConsumer
  * @since 1.0.0
  */
 public final class MultipleOutputConsumer implements OutputConsumer {
 
+    /**
+     * The writing modes of the consumers.
+     */
+    public enum Mode {
+
+        /**
+         * Write to the consumers one after another on the caller thread.
+         */
+        SERIAL,
+
+        /**
+         * Write to each consumer on its own writer thread.
+         */
+        FAN_OUT
+    }
+
+    /**
+     * The queued marker of a null output.
+     */
+    private static final Object NULL_OUTPUT = new Object();
+
+    /**
+     * The queued marker stopping a writer thread.
+     */
+    private static final Object STOP = new Object();
+
+    /**
+     * The thread factory of the writer threads.
+     */
+    private static final ThreadFactory THREAD_FACTORY = ThreadUtil.newDaemonThreadFactory("lc-enhancer-output-sink");
+
     /**
      * All available output consumers.
      */
     private final List<OutputConsumer> consumers;
 
+    /**
+     * The sinks of the consumers, in the same order.
+     */
+    private final List<Sink> sinks;
+
+    /**
+     * The writing mode.
+     */
+    private final Mode mode;
+
+    /**
+     * The queue capacity of each consumer in the fan-out mode.
+     */
+    private int queueCapacity = 1024;
+
+    /**
+     * Whether to drop the outputs of a consumer whose queue is full.
+     */
+    private boolean dropOnOverflow = false;
+
     /**
      * The output provider closed flag.
      */
-    private boolean closeFlag = false;
+    private volatile boolean closeFlag = false;
 
     /**
-     * Create a MultipleOutputConsumer by output consumer list.
+     * Create a serial MultipleOutputConsumer by output consumer list.
      *
      * @param outputConsumerList the non-null and non-empty output consumer list
      */
     public MultipleOutputConsumer(List<OutputConsumer> outputConsumerList) {
+        this(outputConsumerList, Mode.SERIAL);
+    }
+
+    /**
+     * Create a MultipleOutputConsumer by output consumer list.
+     *
+     * @param outputConsumerList the non-null and non-empty output consumer list
+     * @param mode               the writing mode.
+     */
+    public MultipleOutputConsumer(List<OutputConsumer> outputConsumerList, Mode mode) {
         AssertUtil.nonNull(outputConsumerList, "The outputConsumerList cannot be null.");
+        AssertUtil.nonNull(mode, "The mode cannot be null.");
         outputConsumerList = outputConsumerList.stream().filter(Objects::nonNull).collect(Collectors.toList());
         AssertUtil.notEmpty(outputConsumerList, "The outputConsumerList cannot be empty.");
         this.consumers = Collections.unmodifiableList(outputConsumerList);
+        List<Sink> sinkList = new ArrayList<>(consumers.size());
+        for (int i = 0; i < consumers.size(); i++) {
+            sinkList.add(new Sink(i, consumers.get(i)));
+        }
+        this.sinks = Collections.unmodifiableList(sinkList);
+        this.mode = mode;
+    }
+
+    /**
+     * Set the queue capacity of each consumer in the fan-out mode.
+     * It must be set before the first output is consumed.
+     *
+     * @param queueCapacity the positive capacity, 1024 by default.
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        AssertUtil.isTrue(queueCapacity > 0, "The queueCapacity must be positive.");
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Set whether to drop the outputs of a consumer whose queue
+     * is full in the fan-out mode, instead of waiting for it.
+     *
+     * @param dropOnOverflow true to drop the outputs.
+     */
+    public void setDropOnOverflow(boolean dropOnOverflow) {
+        this.dropOnOverflow = dropOnOverflow;
+    }
+
+    /**
+     * Get the writing mode.
+     *
+     * @return the mode.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Get the count of the failures of the consumer.
+     *
+     * @param consumerIndex the index of the consumer in the output consumer list.
+     * @return the failure count.
+     */
+    public long getFailureCount(int consumerIndex) {
+        return sinks.get(consumerIndex).failures.get();
+    }
+
+    /**
+     * Get the last failure of the consumer.
+     *
+     * @param consumerIndex the index of the consumer in the output consumer list.
+     * @return the last failure, null if the consumer never failed.
+     */
+    public Throwable getLastFailure(int consumerIndex) {
+        return sinks.get(consumerIndex).lastFailure;
+    }
+
+    /**
+     * Get the count of the outputs dropped for the consumer.
+     *
+     * @param consumerIndex the index of the consumer in the output consumer list.
+     * @return the dropped count.
+     */
+    public long getDroppedCount(int consumerIndex) {
+        return sinks.get(consumerIndex).dropped.get();
     }
 
     /**
@@ -67,17 +221,36 @@ public final class MultipleOutputConsumer implements OutputConsumer {
         if (closeFlag) {
             return;
         }
-        for (OutputConsumer consumer : consumers) {
+        for (Sink sink : sinks) {
             if (closeFlag) {
                 break;
             }
-            try {
-                consumer.consumeNextOutput(output);
-            } catch (Exception ignored) {
+            if (mode == Mode.FAN_OUT) {
+                sink.offer(output);
+            } else {
+                sink.consume(output);
             }
         }
     }
 
+    /**
+     * Open a writer to stream the next output in chunks.
+     *
+     * <p>In the {@link Mode#SERIAL} mode, the chunks are written to the
+     * writers of all consumers. A consumer whose writer fails is skipped
+     * for the rest of the output. In the {@link Mode#FAN_OUT} mode, the
+     * chunks are collected and consumed as one output when it is closed.</p>
+     *
+     * @return the output writer.
+     */
+    @Override
+    public Writer openNextOutput() {
+        if (mode == Mode.FAN_OUT) {
+            return OutputConsumer.super.openNextOutput();
+        }
+        return new FanOutWriter();
+    }
+
     /**
      * Closes this resource, relinquishing any underlying resources.
      * This method is invoked automatically on objects managed by the
@@ -125,11 +298,19 @@ public final class MultipleOutputConsumer implements OutputConsumer {
      */
     @Override
     public void close() throws Exception {
+        if (closeFlag) {
+            return;
+        }
         closeFlag = true;
-        for (OutputConsumer consumer : consumers) {
+        for (Sink sink : sinks) {
+            sink.stop();
+        }
+        for (Sink sink : sinks) {
+            sink.join();
             try {
-                consumer.close();
-            } catch (Exception ignored) {
+                sink.consumer.close();
+            } catch (Exception e) {
+                sink.fail(e);
             }
         }
     }
@@ -143,4 +324,215 @@ public final class MultipleOutputConsumer implements OutputConsumer {
     public int getOrder() {
         return 0;
     }
+
+    /**
+     * A sink holding an output consumer and, in the fan-out
+     * mode, its queue and writer thread.
+     */
+    private final class Sink implements Runnable {
+
+        /**
+         * The sink index.
+         */
+        private final int index;
+
+        /**
+         * The output consumer.
+         */
+        private final OutputConsumer consumer;
+
+        /**
+         * The count of the failures.
+         */
+        private final AtomicLong failures = new AtomicLong();
+
+        /**
+         * The count of the dropped outputs.
+         */
+        private final AtomicLong dropped = new AtomicLong();
+
+        /**
+         * The last failure.
+         */
+        private volatile Throwable lastFailure;
+
+        /**
+         * The pending outputs of the fan-out mode.
+         */
+        private BlockingQueue<Object> queue;
+
+        /**
+         * The writer thread of the fan-out mode.
+         */
+        private Thread writer;
+
+        private Sink(int index, OutputConsumer consumer) {
+            this.index = index;
+            this.consumer = consumer;
+        }
+
+        private void consume(String output) {
+            try {
+                consumer.consumeNextOutput(output);
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+
+        private void fail(Throwable t) {
+            lastFailure = t;
+            if (failures.getAndIncrement() == 0) {
+                LogUtil.logE("The output consumer #%d (%s) failed, its later failures are only counted: %s",
+                        index, consumer.getClass().getName(), t);
+            }
+        }
+
+        private void offer(String output) {
+            if (Objects.isNull(writer)) {
+                queue = new ArrayBlockingQueue<>(queueCapacity);
+                writer = THREAD_FACTORY.newThread(this);
+                writer.start();
+            }
+            Object item = Objects.isNull(output) ? NULL_OUTPUT : output;
+            try {
+                if (dropOnOverflow) {
+                    if (!queue.offer(item)) {
+                        dropped.incrementAndGet();
+                    }
+                } else {
+                    queue.put(item);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Object item = queue.take();
+                    if (item == STOP) {
+                        return;
+                    }
+                    consume(item == NULL_OUTPUT ? null : (String) item);
+                }
+            } catch (InterruptedException ignored) {
+                // Abandoned by the interrupted closing thread.
+            }
+        }
+
+        private void stop() {
+            if (Objects.nonNull(writer)) {
+                try {
+                    queue.put(STOP);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    writer.interrupt();
+                }
+            }
+        }
+
+        private void join() {
+            if (Objects.nonNull(writer)) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * A writer streaming the chunks of an output to the writers of all consumers.
+     */
+    private final class FanOutWriter extends Writer {
+
+        /**
+         * The writers of the sinks in order, null for the closed or failed ones.
+         */
+        private final Writer[] writers = new Writer[sinks.size()];
+
+        private FanOutWriter() {
+            if (closeFlag) {
+                return;
+            }
+            for (int i = 0; i < writers.length; i++) {
+                try {
+                    writers[i] = sinks.get(i).consumer.openNextOutput();
+                } catch (Exception e) {
+                    sinks.get(i).fail(e);
+                }
+            }
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            for (int i = 0; i < writers.length; i++) {
+                if (Objects.nonNull(writers[i])) {
+                    try {
+                        writers[i].write(cbuf, off, len);
+                    } catch (Exception e) {
+                        discard(i, e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            for (int i = 0; i < writers.length; i++) {
+                if (Objects.nonNull(writers[i])) {
+                    try {
+                        writers[i].write(str, off, len);
+                    } catch (Exception e) {
+                        discard(i, e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            for (int i = 0; i < writers.length; i++) {
+                if (Objects.nonNull(writers[i])) {
+                    try {
+                        writers[i].flush();
+                    } catch (Exception e) {
+                        discard(i, e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            for (int i = 0; i < writers.length; i++) {
+                Writer writer = writers[i];
+                if (Objects.nonNull(writer)) {
+                    writers[i] = null;
+                    try {
+                        writer.close();
+                    } catch (Exception e) {
+                        sinks.get(i).fail(e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Record the failure of the sink and close its writer quietly.
+         */
+        private void discard(int i, Exception e) {
+            sinks.get(i).fail(e);
+            Writer writer = writers[i];
+            writers[i] = null;
+            try {
+                writer.close();
+            } catch (IOException | RuntimeException ignored) {
+            }
+        }
+    }
 }
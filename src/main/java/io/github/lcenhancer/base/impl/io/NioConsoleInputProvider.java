@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.interfaces.InputProvider;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+/**
+ * <p>NioConsoleInputProvider is a {@link InputProvider} and
+ * extends on {@link CharsetLineInputProvider}.</p>
+ *
+ * <p>NioConsoleInputProvider reads the stdin file descriptor through
+ * a {@link FileChannel}, bypassing the buffering of {@link System#in},
+ * and decodes the lines with an explicit charset. A read returns as
+ * soon as a line is available, so it stays responsive on a terminal.</p>
+ *
+ * @author Jidcoo
+ * @see CharsetLineInputProvider
+ * @see NioConsoleOutputConsumer
+ * @since 1.0.0
+ */
+public class NioConsoleInputProvider extends CharsetLineInputProvider {
+
+    /**
+     * Create a NioConsoleInputProvider with the default charset.
+     */
+    public NioConsoleInputProvider() {
+        this(Charset.defaultCharset());
+    }
+
+    /**
+     * Create a NioConsoleInputProvider.
+     *
+     * @param charset the input charset.
+     */
+    public NioConsoleInputProvider(Charset charset) {
+        // Use the stdin channel as input source.
+        super(Channels.newInputStream(new FileInputStream(FileDescriptor.in).getChannel()), charset);
+    }
+}
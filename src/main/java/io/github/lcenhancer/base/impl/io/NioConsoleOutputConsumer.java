@@ -0,0 +1,406 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.interfaces.OutputConsumer;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StringUtil;
+
+import java.io.Closeable;
+import java.io.Console;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>NioConsoleOutputConsumer is a {@link OutputConsumer} that
+ * writes to the stdout file descriptor through a {@link FileChannel}
+ * with a large direct buffer, bypassing {@link System#out}.</p>
+ *
+ * <p>The flush strategy adapts to the stdout: if it is a terminal,
+ * every output is flushed immediately to echo it. If it is a pipe or
+ * a file, the outputs are flushed only when the buffer is full, or
+ * when the oldest pending output is older than the max flush delay,
+ * which gives the full throughput to the downstream tools.</p>
+ *
+ * <p>Note: the outputs may interleave out of order with the writes
+ * through {@link System#out}, since they are buffered separately.</p>
+ *
+ * @author Jidcoo
+ * @see ConsoleOutputConsumer
+ * @since 1.0.0
+ */
+public class NioConsoleOutputConsumer implements OutputConsumer {
+
+    /**
+     * The default buffer size.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * The stdout channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The direct output buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The output encoder.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * Whether to flush every output immediately.
+     */
+    private final boolean interactive;
+
+    /**
+     * The max delay of the pending outputs in nanoseconds.
+     */
+    private long maxFlushDelayNanos = TimeUnit.MILLISECONDS.toNanos(200);
+
+    /**
+     * The time of the oldest pending output.
+     */
+    private long pendingSince = 0;
+
+    /**
+     * The output consumer closed flag.
+     */
+    private boolean closeFlag = false;
+
+    /**
+     * Create a NioConsoleOutputConsumer with the default charset,
+     * flushing immediately if the stdout is a terminal.
+     */
+    public NioConsoleOutputConsumer() {
+        this(Charset.defaultCharset(), DEFAULT_BUFFER_SIZE, isStdoutTerminal());
+    }
+
+    /**
+     * Create a NioConsoleOutputConsumer.
+     *
+     * @param charset     the output charset.
+     * @param bufferSize  the direct buffer size.
+     * @param interactive true to flush every output immediately.
+     */
+    public NioConsoleOutputConsumer(Charset charset, int bufferSize, boolean interactive) {
+        AssertUtil.nonNull(charset, "The charset cannot be null.");
+        AssertUtil.isTrue(bufferSize >= 16, "The bufferSize must be at least 16.");
+        this.channel = new FileOutputStream(FileDescriptor.out).getChannel();
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.interactive = interactive;
+    }
+
+    /**
+     * Determine if the stdout is a terminal.
+     *
+     * <p>It uses {@link System#console()}, and <tt>Console.isTerminal()</tt>
+     * if available since the console may exist for a redirected stdout.</p>
+     *
+     * @return true if the stdout is a terminal.
+     */
+    public static boolean isStdoutTerminal() {
+        Console console = System.console();
+        if (Objects.isNull(console)) {
+            return false;
+        }
+        try {
+            Method isTerminal = Console.class.getMethod("isTerminal");
+            return (Boolean) isTerminal.invoke(console);
+        } catch (ReflectiveOperationException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Set the max delay of the pending outputs in the non-interactive mode.
+     * The delay is checked when an output is consumed.
+     *
+     * @param maxFlushDelay the max flush delay.
+     * @param unit          the time unit.
+     */
+    public void setMaxFlushDelay(long maxFlushDelay, TimeUnit unit) {
+        AssertUtil.isTrue(maxFlushDelay >= 0, "The maxFlushDelay cannot be negative.");
+        this.maxFlushDelayNanos = unit.toNanos(maxFlushDelay);
+    }
+
+    /**
+     * Determine if every output is flushed immediately.
+     *
+     * @return true if interactive.
+     */
+    public boolean isInteractive() {
+        return interactive;
+    }
+
+    /**
+     * Consume a string output from method calls.
+     *
+     * @param output a string output.
+     */
+    @Override
+    public void consumeNextOutput(String output) {
+        if (closeFlag || StringUtil.isEmpty(output)) {
+            return;
+        }
+        try {
+            if (buffer.position() == 0) {
+                pendingSince = System.nanoTime();
+            }
+            encode(CharBuffer.wrap(output));
+            encode(CharBuffer.wrap("\n"));
+            if (interactive || System.nanoTime() - pendingSince >= maxFlushDelayNanos) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Open a writer to stream the next output in chunks.
+     * The chunks are encoded through to the output buffer.
+     *
+     * @return the output writer.
+     */
+    @Override
+    public Writer openNextOutput() {
+        return new OutputWriter();
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        encode(chars, true);
+    }
+
+    /**
+     * Encode the chars to the output buffer, draining it when full.
+     *
+     * @param chars      the chars.
+     * @param endOfInput true if the chars end the input, then the encoder
+     *                   is flushed and reset. Otherwise a trailing high
+     *                   surrogate is left in the chars for the next chunk.
+     */
+    private void encode(CharBuffer chars, boolean endOfInput) throws IOException {
+        CoderResult result;
+        while (!(result = encoder.encode(chars, buffer, endOfInput)).isUnderflow()) {
+            if (result.isOverflow()) {
+                drain();
+            } else {
+                result.throwException();
+            }
+        }
+        if (endOfInput) {
+            while (encoder.flush(buffer).isOverflow()) {
+                drain();
+            }
+            encoder.reset();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        pendingSince = System.nanoTime();
+    }
+
+    /**
+     * Write the pending outputs to the stdout.
+     */
+    public void flush() {
+        try {
+            if (buffer.position() > 0) {
+                drain();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     * This method is invoked automatically on objects managed by the
+     * {@code try}-with-resources statement.
+     *
+     * <p>While this interface method is declared to throw {@code
+     * Exception}, implementers are <em>strongly</em> encouraged to
+     * declare concrete implementations of the {@code close} method to
+     * throw more specific exceptions, or to throw no exception at all
+     * if the close operation cannot fail.
+     *
+     * <p> Cases where the close operation may fail require careful
+     * attention by implementers. It is strongly advised to relinquish
+     * the underlying resources and to internally <em>mark</em> the
+     * resource as closed, prior to throwing the exception. The {@code
+     * close} method is unlikely to be invoked more than once and so
+     * this ensures that the resources are released in a timely manner.
+     * Furthermore it reduces problems that could arise when the resource
+     * wraps, or is wrapped, by another resource.
+     *
+     * <p><em>Implementers of this interface are also strongly advised
+     * to not have the {@code close} method throw {@link
+     * InterruptedException}.</em>
+     * <p>
+     * This exception interacts with a thread's interrupted status,
+     * and runtime misbehavior is likely to occur if an {@code
+     * InterruptedException} is {@linkplain Throwable#addSuppressed
+     * suppressed}.
+     * <p>
+     * More generally, if it would cause problems for an
+     * exception to be suppressed, the {@code AutoCloseable.close}
+     * method should not throw it.
+     *
+     * <p>Note that unlike the {@link Closeable#close close}
+     * method of {@link Closeable}, this {@code close} method
+     * is <em>not</em> required to be idempotent.  In other words,
+     * calling this {@code close} method more than once may have some
+     * visible side effect, unlike {@code Closeable.close} which is
+     * required to have no effect if called more than once.
+     * <p>
+     * However, implementers of this interface are strongly encouraged
+     * to make their {@code close} methods idempotent.
+     *
+     * @throws Exception if this resource cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        // Flush the pending outputs only, and do not close
+        // the stdout channel.
+        if (!closeFlag) {
+            flush();
+            closeFlag = true;
+        }
+    }
+
+    /**
+     * Get the order of the object.
+     *
+     * @return the int order of the object.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+
+    /**
+     * The writer of a streamed output.
+     */
+    private final class OutputWriter extends Writer {
+
+        /**
+         * Whether any chunk has been written.
+         */
+        private boolean written = false;
+
+        /**
+         * Whether a high surrogate ending the last chunk is pending.
+         */
+        private boolean surrogatePending = false;
+
+        /**
+         * The pending high surrogate, encoded with the next chunk.
+         */
+        private char pendingSurrogate;
+
+        /**
+         * The writer closed flag.
+         */
+        private boolean closeFlag = false;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            write(CharBuffer.wrap(cbuf, off, len));
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            write(CharBuffer.wrap(str, off, off + len));
+        }
+
+        private void write(CharBuffer chars) throws IOException {
+            if (closeFlag) {
+                throw new IOException("The output writer is closed.");
+            }
+            if (NioConsoleOutputConsumer.this.closeFlag || !chars.hasRemaining()) {
+                return;
+            }
+            if (buffer.position() == 0) {
+                pendingSince = System.nanoTime();
+            }
+            written = true;
+            while (surrogatePending && chars.hasRemaining()) {
+                // Pair the pending high surrogate with the first char of this chunk.
+                surrogatePending = false;
+                CharBuffer pair = CharBuffer.wrap(new char[]{pendingSurrogate, chars.get()});
+                encode(pair, false);
+                keepPendingSurrogate(pair);
+            }
+            // Encode without the end of input, so a surrogate pair split
+            // between the chunks is not replaced as malformed.
+            encode(chars, false);
+            keepPendingSurrogate(chars);
+        }
+
+        private void keepPendingSurrogate(CharBuffer chars) {
+            if (chars.hasRemaining()) {
+                pendingSurrogate = chars.get();
+                surrogatePending = true;
+            }
+        }
+
+        @Override
+        public void flush() {
+            NioConsoleOutputConsumer.this.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closeFlag) {
+                return;
+            }
+            closeFlag = true;
+            if (written && !NioConsoleOutputConsumer.this.closeFlag) {
+                // End the input with the pending high surrogate if any, which is malformed then.
+                encode(surrogatePending ? CharBuffer.wrap(pendingSurrogate + "\n") : CharBuffer.wrap("\n"), true);
+                surrogatePending = false;
+                if (interactive || System.nanoTime() - pendingSince >= maxFlushDelayNanos) {
+                    NioConsoleOutputConsumer.this.flush();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.interfaces.OutputConsumer;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * <p>ShardOutputMerger reassembles the shard outputs logged by
+ * {@link ShardedFileInputProvider#newShardOutputConsumer(File)}
+ * in the original case order.</p>
+ *
+ * <p>Each shard log is ordered by case index, so the logs are
+ * merged in a single streaming pass. The outputs of the same
+ * case keep their logged order.</p>
+ *
+ * @author Jidcoo
+ * @see ShardedFileInputProvider
+ * @since 1.0.0
+ */
+public final class ShardOutputMerger {
+
+    private ShardOutputMerger() {
+    }
+
+    /**
+     * Merge the shard logs into the output consumer in the original case order.
+     *
+     * @param shardLogs the shard log files.
+     * @param consumer  the output consumer.
+     * @return the count of the merged outputs.
+     */
+    public static long merge(List<File> shardLogs, OutputConsumer consumer) throws IOException {
+        AssertUtil.nonNull(shardLogs, "The shardLogs cannot be null.");
+        AssertUtil.nonNull(consumer, "The consumer cannot be null.");
+        List<BinaryResultLogReader> readers = new ArrayList<>(shardLogs.size());
+        // Order by case index, then by shard for the outputs of the same case.
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, shardLogs.size()),
+                Comparator.<Head>comparingLong(head -> head.record.getCaseIndex()).thenComparingInt(head -> head.shard));
+        long merged = 0;
+        try {
+            for (File shardLog : shardLogs) {
+                BinaryResultLogReader reader = new BinaryResultLogReader(shardLog);
+                readers.add(reader);
+                BinaryResultLogReader.Record record = reader.next();
+                if (record != null) {
+                    heads.add(new Head(readers.size() - 1, reader, record));
+                }
+            }
+            while (!heads.isEmpty()) {
+                Head head = heads.poll();
+                consumer.consumeNextOutput(head.record.getOutput());
+                merged++;
+                BinaryResultLogReader.Record record = head.reader.next();
+                if (record != null) {
+                    heads.add(new Head(head.shard, head.reader, record));
+                }
+            }
+        } finally {
+            for (BinaryResultLogReader reader : readers) {
+                try {
+                    reader.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The next record of a shard log.
+     */
+    private static final class Head {
+
+        private final int shard;
+
+        private final BinaryResultLogReader reader;
+
+        private final BinaryResultLogReader.Record record;
+
+        private Head(int shard, BinaryResultLogReader reader, BinaryResultLogReader.Record record) {
+            this.shard = shard;
+            this.reader = reader;
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.impl.io;
+
+import io.github.lcenhancer.base.engine.InvocationOutcome;
+import io.github.lcenhancer.base.interfaces.InputProvider;
+import io.github.lcenhancer.base.interfaces.LeetcodeInvoker;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * <p>ShardedFileInputProvider is a {@link InputProvider} and
+ * extends on {@link IndexedFileInputProvider}.</p>
+ *
+ * <p>ShardedFileInputProvider provides only one shard of a
+ * test-case file, so that a single file can be run by several
+ * processes or nodes without pre-splitting it. The shards are
+ * always aligned to the case boundaries, see {@link ShardMode}.
+ * </p>
+ *
+ * <p>The outputs of a shard can be logged by
+ * {@link #newShardOutputConsumer(File)} together with the
+ * original case indexes, and reassembled in the original
+ * order by {@link ShardOutputMerger}.</p>
+ *
+ * <p>Note: a {@link ShardMode#CONTIGUOUS} shard finds its case
+ * boundaries through the complete {@link CaseOffsetIndex} sidecar
+ * shared by all shards, and then reads only its own byte range.
+ * Since the cases are framed by line counts, a byte boundary cannot
+ * be aligned to a case without the lines before it, so the sidecar
+ * must be prebuilt once by {@link CaseOffsetIndex#build(File, int)}
+ * before the shards are started.</p>
+ *
+ * @author Jidcoo
+ * @see ShardOutputMerger
+ * @since 1.0.0
+ */
+public class ShardedFileInputProvider extends IndexedFileInputProvider {
+
+    /**
+     * The shard index.
+     */
+    private final int shardIndex;
+
+    /**
+     * The shard count.
+     */
+    private final int shardCount;
+
+    /**
+     * Create a ShardedFileInputProvider by file.
+     *
+     * @param file         the test-case file.
+     * @param linesPerCase the line count of each case.
+     * @param shardIndex   the shard index, from 0 to shardCount - 1.
+     * @param shardCount   the shard count.
+     * @param mode         the shard mode.
+     * @throws RuntimeException if the mode is {@link ShardMode#CONTIGUOUS}
+     *                          and the case index is not prebuilt.
+     */
+    public ShardedFileInputProvider(File file, int linesPerCase, int shardIndex, int shardCount, ShardMode mode)
+            throws IOException {
+        super(file, linesPerCase);
+        AssertUtil.nonNull(mode, "The shard mode cannot be null.");
+        AssertUtil.isTrue(shardCount > 0 && shardIndex >= 0 && shardIndex < shardCount,
+                "Illegal shard " + shardIndex + " of " + shardCount + ".");
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        if (ShardMode.STRIDED == mode) {
+            selectStrided(shardIndex, shardCount);
+        } else {
+            CaseOffsetIndex index = getIndex();
+            if (!index.isComplete()) {
+                RuntimeException e = new RuntimeException("The CONTIGUOUS shards require a prebuilt case index, "
+                        + "please build it by CaseOffsetIndex.build(file, linesPerCase) first: "
+                        + CaseOffsetIndex.sidecarOf(file));
+                try {
+                    close();
+                } catch (Exception suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            long length = index.getFileLength();
+            long fromCase = index.caseAtOrAfter(byteBoundary(length, shardIndex, shardCount));
+            long toCase = shardIndex == shardCount - 1 ? Long.MAX_VALUE
+                    : index.caseAtOrAfter(byteBoundary(length, shardIndex + 1, shardCount));
+            selectRange(fromCase, toCase);
+        }
+    }
+
+    /**
+     * Create a ShardedFileInputProvider by file for the leetcode invoker.
+     *
+     * @param file       the test-case file.
+     * @param invoker    the leetcode invoker.
+     * @param shardIndex the shard index, from 0 to shardCount - 1.
+     * @param shardCount the shard count.
+     * @param mode       the shard mode.
+     */
+    public ShardedFileInputProvider(File file, LeetcodeInvoker invoker, int shardIndex, int shardCount,
+                                    ShardMode mode) throws IOException {
+        this(file, invoker.getParameterCount(), shardIndex, shardCount, mode);
+    }
+
+    private static long byteBoundary(long length, int shard, int shardCount) {
+        // length * shard / shardCount without overflow.
+        return length / shardCount * shard + length % shardCount * shard / shardCount;
+    }
+
+    /**
+     * Create an output consumer logging each output of this
+     * shard with the index of the case being provided.
+     *
+     * <p>The shard log is truncated, so re-running a failed or partial
+     * shard replaces its records instead of logging the cases twice.</p>
+     *
+     * @param logFile the shard log file.
+     * @return the shard output consumer.
+     * @see ShardOutputMerger#merge(java.util.List, io.github.lcenhancer.base.interfaces.OutputConsumer)
+     */
+    public BinaryResultLogOutputConsumer newShardOutputConsumer(File logFile) throws IOException {
+        AssertUtil.nonNull(logFile, "The logFile cannot be null.");
+        return new BinaryResultLogOutputConsumer(new FileOutputStream(logFile)) {
+            @Override
+            public void consumeNextOutput(String output) {
+                consumeNextResult(getCurrentCase(), -1, InvocationOutcome.Status.OK, -1, -1, output);
+            }
+        };
+    }
+
+    /**
+     * Get the shard index.
+     *
+     * @return the shard index.
+     */
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    /**
+     * Get the shard count.
+     *
+     * @return the shard count.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * The shard mode.
+     */
+    public enum ShardMode {
+        /**
+         * Each shard provides the cases starting in its contiguous
+         * byte range of the file.
+         */
+        CONTIGUOUS,
+        /**
+         * Each shard provides every <tt>shardCount</tt>th case, starting
+         * from the case <tt>shardIndex</tt>.
+         */
+        STRIDED
+    }
+}
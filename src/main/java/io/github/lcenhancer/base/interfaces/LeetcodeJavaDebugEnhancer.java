@@ -18,6 +18,9 @@ package io.github.lcenhancer.base.interfaces;
 
 import io.github.lcenhancer.base.strategy.BaseParameterAcceptStrategy;
 import io.github.lcenhancer.base.strategy.BasePrintingStrategy;
+import io.github.lcenhancer.base.strategy.ParameterAcceptCache;
+import io.github.lcenhancer.base.strategy.PrintingOptions;
+import io.github.lcenhancer.base.strategy.StrategyRegistry;
 
 import java.util.List;
 import java.util.logging.Level;
@@ -74,6 +77,21 @@ public interface LeetcodeJavaDebugEnhancer {
         return null;
     }
 
+    /**
+     * <p>If you need to limit the printing of enormous outputs, please return
+     * the printing options, which cap the elements printed for each list or
+     * array and the characters of each output. The skipped parts are rendered
+     * as markers like <tt>...(N more)</tt> and are never visited.</p>
+     *
+     * <p>If the method returns null, the outputs are printed in full.</p>
+     *
+     * @return the printing options.
+     * @see StrategyRegistry#ofOutputPrintStrategies(LeetcodeJavaDebugEnhancer)
+     */
+    default PrintingOptions getPrintingOptions() {
+        return null;
+    }
+
     /**
      * Return the LeetcodeJavaDebugEnhancer log level.
      * By default, logging is turned off.
@@ -114,4 +132,18 @@ public interface LeetcodeJavaDebugEnhancer {
     default List<BaseParameterAcceptStrategy<?>> getParameterAcceptStrategies() {
         return null;
     }
+
+    /**
+     * <p>If the same huge input lines are accepted again and again, please return
+     * a parameter accept cache, which keeps the accepted parameters of the lines
+     * and returns a copy of them instead of parsing the lines again.</p>
+     *
+     * <p>If the method returns null, the input lines are always parsed.</p>
+     *
+     * @return the parameter accept cache.
+     * @see StrategyRegistry#ofParameterAcceptStrategies(LeetcodeJavaDebugEnhancer)
+     */
+    default ParameterAcceptCache getParameterAcceptCache() {
+        return null;
+    }
 }
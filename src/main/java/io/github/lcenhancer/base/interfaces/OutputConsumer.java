@@ -16,6 +16,10 @@
 
 package io.github.lcenhancer.base.interfaces;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
 /**
  * <p>OutputConsumer is an output consumer. </p>
  * <p>It will consume a string method output source. </p>
@@ -36,4 +40,31 @@ public interface OutputConsumer extends AutoCloseable, Order {
      * @param output a string output.
      */
     void consumeNextOutput(String output);
+
+    /**
+     * Open a writer to stream the next output in chunks,
+     * for an output too large to be materialized as a string.
+     * Closing the writer completes the output, like a
+     * {@link #consumeNextOutput(String)} call.
+     *
+     * <p>The default writer collects the chunks and consumes them
+     * as one string when it is closed. The consumers writing to a
+     * stream should override it to write the chunks through.</p>
+     *
+     * @return the output writer.
+     */
+    default Writer openNextOutput() {
+        return new StringWriter() {
+
+            private boolean closed = false;
+
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    consumeNextOutput(toString());
+                }
+            }
+        };
+    }
 }
@@ -60,4 +60,19 @@ public interface ProxyPointInterceptor<PointResult> extends Order {
     default PointResult onAfter(LeetcodeJavaDebugEnhancer leetcodeJavaDebugEnhancer, PointResult pointResult) {
         return pointResult;
     }
+
+    /**
+     * Return whether the interceptor only observes the proxy point
+     * result in {@link #onAfter(LeetcodeJavaDebugEnhancer, Object)}
+     * without transforming it.
+     *
+     * <p>The {@code onAfter} of an observe-only interceptor may be run
+     * asynchronously off the invoking thread on a deep copy of the
+     * result, and its returned result is ignored.</p>
+     *
+     * @return true if observe-only.
+     */
+    default boolean isObserveOnly() {
+        return false;
+    }
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.proxy;
+
+import io.github.lcenhancer.base.interfaces.ProxyPointInterceptor;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.LogUtil;
+import io.github.lcenhancer.base.utils.ThreadUtil;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>ObserverExecutor runs the {@code onAfter} hooks of the
+ * observe-only {@link ProxyPointInterceptor}s off the invoking
+ * thread, through a bounded queue.</p>
+ *
+ * <p>When the queue is full, the {@link OverflowPolicy} decides
+ * whether the invoking thread waits, runs the hooks itself, or
+ * drops them. The failures of the hooks are logged once and
+ * counted, and never reach the invoking thread.</p>
+ *
+ * @author Jidcoo
+ * @see ProxyPointInterceptor#isObserveOnly()
+ * @see ProxyPointInterceptorRegistry
+ * @since 1.0.0
+ */
+public final class ObserverExecutor implements AutoCloseable {
+
+    /**
+     * The policies when the queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The invoking thread waits for the queue.
+         */
+        BLOCK,
+
+        /**
+         * The invoking thread runs the hooks itself.
+         */
+        CALLER_RUNS,
+
+        /**
+         * The hooks are dropped and counted.
+         */
+        DROP
+    }
+
+    /**
+     * The executor running the hooks.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The count of the dropped hook runs.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * The count of the failed hook runs.
+     */
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * The max milliseconds to wait for the queued hooks on close.
+     */
+    private volatile long closeTimeoutMillis = 30_000L;
+
+    /**
+     * Create an ObserverExecutor.
+     *
+     * @param threads        the count of the observer threads.
+     * @param queueCapacity  the capacity of the queue.
+     * @param overflowPolicy the policy when the queue is full.
+     */
+    public ObserverExecutor(int threads, int queueCapacity, OverflowPolicy overflowPolicy) {
+        AssertUtil.isTrue(threads > 0, "The threads must be positive.");
+        AssertUtil.isTrue(queueCapacity > 0, "The queueCapacity must be positive.");
+        AssertUtil.nonNull(overflowPolicy, "The overflowPolicy cannot be null.");
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), ThreadUtil.newDaemonThreadFactory("lc-enhancer-observer"),
+                rejectionHandlerOf(overflowPolicy));
+    }
+
+    /**
+     * Create an ObserverExecutor with a single thread and a queue of
+     * 4096 hook runs, blocking when the queue is full.
+     */
+    public ObserverExecutor() {
+        this(1, 4096, OverflowPolicy.BLOCK);
+    }
+
+    private RejectedExecutionHandler rejectionHandlerOf(OverflowPolicy overflowPolicy) {
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                return (task, pool) -> {
+                    if (!pool.isShutdown()) {
+                        task.run();
+                    }
+                };
+            case DROP:
+                return (task, pool) -> dropped.incrementAndGet();
+            default:
+                return (task, pool) -> {
+                    try {
+                        if (pool.isShutdown()) {
+                            dropped.incrementAndGet();
+                        } else {
+                            pool.getQueue().put(task);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped.incrementAndGet();
+                    }
+                };
+        }
+    }
+
+    /**
+     * Set the max milliseconds to wait for the queued hooks on close,
+     * after which the remaining hooks are dropped.
+     *
+     * @param closeTimeoutMillis the close timeout, 30 seconds by default.
+     */
+    public void setCloseTimeoutMillis(long closeTimeoutMillis) {
+        AssertUtil.isTrue(closeTimeoutMillis >= 0, "The closeTimeoutMillis cannot be negative.");
+        this.closeTimeoutMillis = closeTimeoutMillis;
+    }
+
+    /**
+     * Run the hooks asynchronously.
+     *
+     * @param hooks the hooks.
+     */
+    void execute(Runnable hooks) {
+        executor.execute(() -> {
+            try {
+                hooks.run();
+            } catch (Throwable t) {
+                if (failures.getAndIncrement() == 0) {
+                    LogUtil.logE("The observe-only interceptor failed, its later failures are only counted: %s", t);
+                }
+            }
+        });
+    }
+
+    /**
+     * Get the count of the dropped hook runs.
+     *
+     * @return the dropped count.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Get the count of the failed hook runs.
+     *
+     * @return the failure count.
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    /**
+     * Closes this resource, relinquishing any underlying resources.
+     * This method is invoked automatically on objects managed by the
+     * {@code try}-with-resources statement.
+     *
+     * <p>While this interface method is declared to throw {@code
+     * Exception}, implementers are <em>strongly</em> encouraged to
+     * declare concrete implementations of the {@code close} method to
+     * throw more specific exceptions, or to throw no exception at all
+     * if the close operation cannot fail.
+     *
+     * <p> Cases where the close operation may fail require careful
+     * attention by implementers. It is strongly advised to relinquish
+     * the underlying resources and to internally <em>mark</em> the
+     * resource as closed, prior to throwing the exception. The {@code
+     * close} method is unlikely to be invoked more than once and so
+     * this ensures that the resources are released in a timely manner.
+     * Furthermore it reduces problems that could arise when the resource
+     * wraps, or is wrapped, by another resource.
+     *
+     * <p><em>Implementers of this interface are also strongly advised
+     * to not have the {@code close} method throw {@link
+     * InterruptedException}.</em>
+     * <p>
+     * This exception interacts with a thread's interrupted status,
+     * and runtime misbehavior is likely to occur if an {@code
+     * InterruptedException} is {@linkplain Throwable#addSuppressed
+     * suppressed}.
+     * <p>
+     * More generally, if it would cause problems for an
+     * exception to be suppressed, the {@code AutoCloseable.close}
+     * method should not throw it.
+     *
+     * <p>Note that unlike the {@link Closeable#close close}
+     * method of {@link Closeable}, this {@code close} method
+     * is <em>not</em> required to be idempotent.  In other words,
+     * calling this {@code close} method more than once may have some
+     * visible side effect, unlike {@code Closeable.close} which is
+     * required to have no effect if called more than once.
+     * <p>
+     * However, implementers of this interface are strongly encouraged
+     * to make their {@code close} methods idempotent.
+     *
+     * @throws Exception if this resource cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        // Run the queued hooks before returning, but never wait forever for a stuck hook.
+        executor.shutdown();
+        boolean terminated = false;
+        try {
+            terminated = executor.awaitTermination(closeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!terminated) {
+            int remaining = executor.shutdownNow().size();
+            dropped.addAndGet(remaining);
+            LogUtil.logW("The observer executor is not terminated in %d ms, %d queued hook runs are dropped.",
+                    closeTimeoutMillis, remaining);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.proxy;
+
+import io.github.lcenhancer.base.interfaces.LeetcodeJavaDebugEnhancer;
+import io.github.lcenhancer.base.interfaces.ProxyPointInterceptor;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.OrderUtil;
+import io.github.lcenhancer.base.utils.StringUtil;
+import io.github.lcenhancer.base.utils.StructUtil;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>ProxyPointInterceptorRegistry compiles the {@link ProxyPointInterceptor}s
+ * once into a fixed {@link Chain} per proxy point.</p>
+ *
+ * <p>The interceptors of a chain are sorted by {@link OrderUtil#descSort(List)},
+ * so the interceptor with the highest order runs first like the strategies,
+ * and the interceptors keeping the default no-op {@code onBefore} or
+ * {@code onAfter} are left out of the corresponding handler array. The points
+ * without interceptors have no chain at all, so {@link #getChain(String)}
+ * returns null and the proxy point can be invoked directly.</p>
+ *
+ * <p>The {@code onAfter} hooks of the {@link ProxyPointInterceptor#isObserveOnly() observe-only}
+ * interceptors run after the transforming ones and receive the final result.
+ * If the registry is compiled with an {@link ObserverExecutor}, they run on it
+ * off the invoking thread, otherwise they run synchronously. Since the invoking
+ * thread keeps printing or mutating the result, the asynchronous observers receive
+ * a {@link StructUtil#deepCopy(Object)} of it. The objects that cannot be copied,
+ * other than the arrays, collections, {@link io.github.lcenhancer.base.struct.ListNode}s
+ * and {@link io.github.lcenhancer.base.struct.TreeNode}s, are still shared, so the
+ * observers must treat them as possibly changing.</p>
+ *
+ * <p>The registry is immutable, and the dispatching of a chain allocates
+ * nothing except the task and the result copy of the asynchronous observers.</p>
+ *
+ * @author Jidcoo
+ * @see ProxyPointInterceptor
+ * @since 1.0.0
+ */
+public final class ProxyPointInterceptorRegistry {
+
+    /**
+     * The empty registry.
+     */
+    public static final ProxyPointInterceptorRegistry EMPTY = new ProxyPointInterceptorRegistry(Collections.emptyMap());
+
+    /**
+     * The chains by proxy point name.
+     */
+    private final Map<String, Chain<?>> chains;
+
+    private ProxyPointInterceptorRegistry(Map<String, Chain<?>> chains) {
+        this.chains = chains;
+    }
+
+    /**
+     * Compile the interceptors into a registry.
+     *
+     * @param interceptors the interceptors, the null ones are ignored.
+     * @return the registry.
+     */
+    public static ProxyPointInterceptorRegistry compile(List<? extends ProxyPointInterceptor<?>> interceptors) {
+        return compile(interceptors, null);
+    }
+
+    /**
+     * Compile the interceptors into a registry, running the
+     * observe-only {@code onAfter} hooks on the observer executor.
+     *
+     * @param interceptors     the interceptors, the null ones are ignored.
+     * @param observerExecutor the observer executor, null to run the hooks synchronously.
+     * @return the registry.
+     */
+    public static ProxyPointInterceptorRegistry compile(List<? extends ProxyPointInterceptor<?>> interceptors,
+                                                        ObserverExecutor observerExecutor) {
+        AssertUtil.nonNull(interceptors, "The interceptors cannot be null.");
+        Map<String, List<ProxyPointInterceptor<?>>> grouped = new HashMap<>();
+        for (ProxyPointInterceptor<?> interceptor : interceptors) {
+            if (Objects.isNull(interceptor)) {
+                continue;
+            }
+            String point = interceptor.interceptPoint();
+            AssertUtil.isTrue(!StringUtil.isBlank(point), "The intercept point of "
+                    + interceptor.getClass().getName() + " cannot be blank.");
+            grouped.computeIfAbsent(point, key -> new ArrayList<>()).add(interceptor);
+        }
+        Map<String, Chain<?>> chains = new HashMap<>();
+        for (Map.Entry<String, List<ProxyPointInterceptor<?>>> entry : grouped.entrySet()) {
+            List<ProxyPointInterceptor<?>> list = entry.getValue();
+            OrderUtil.descSort(list);
+            Chain<?> chain = new Chain<>(entry.getKey(), list, observerExecutor);
+            if (chain.hasBefore() || chain.hasAfter()) {
+                chains.put(entry.getKey(), chain);
+            }
+        }
+        return new ProxyPointInterceptorRegistry(Collections.unmodifiableMap(chains));
+    }
+
+    /**
+     * Get the chain of the proxy point.
+     *
+     * @param point the proxy point name.
+     * @return the chain, null if the point is not intercepted.
+     */
+    @SuppressWarnings("unchecked")
+    public <PointResult> Chain<PointResult> getChain(String point) {
+        return (Chain<PointResult>) chains.get(point);
+    }
+
+    /**
+     * Check if the proxy point is intercepted.
+     *
+     * @param point the proxy point name.
+     * @return true if the point has a chain.
+     */
+    public boolean isIntercepted(String point) {
+        return chains.containsKey(point);
+    }
+
+    /**
+     * Get the intercepted proxy point names.
+     *
+     * @return the point names.
+     */
+    public Set<String> getInterceptedPoints() {
+        return chains.keySet();
+    }
+
+    /**
+     * Check if the interceptor overrides the default method of {@link ProxyPointInterceptor}.
+     */
+    private static boolean overrides(ProxyPointInterceptor<?> interceptor, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = interceptor.getClass().getMethod(name, parameterTypes);
+            return method.getDeclaringClass() != ProxyPointInterceptor.class;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return true;
+        }
+    }
+
+    /**
+     * <p>Chain is the compiled interceptors of a proxy point.</p>
+     *
+     * @param <PointResult> the proxy point result type.
+     */
+    public static final class Chain<PointResult> {
+
+        /**
+         * The proxy point name.
+         */
+        private final String point;
+
+        /**
+         * The interceptors overriding {@code onBefore} in order.
+         */
+        private final ProxyPointInterceptor<PointResult>[] beforeHandlers;
+
+        /**
+         * The transforming interceptors overriding {@code onAfter} in order.
+         */
+        private final ProxyPointInterceptor<PointResult>[] afterHandlers;
+
+        /**
+         * The observe-only interceptors overriding {@code onAfter} in order.
+         */
+        private final ProxyPointInterceptor<PointResult>[] observers;
+
+        /**
+         * The executor of the observers, null to run them synchronously.
+         */
+        private final ObserverExecutor observerExecutor;
+
+        private Chain(String point, List<ProxyPointInterceptor<?>> interceptors, ObserverExecutor observerExecutor) {
+            List<ProxyPointInterceptor<?>> before = new ArrayList<>();
+            List<ProxyPointInterceptor<?>> after = new ArrayList<>();
+            List<ProxyPointInterceptor<?>> observing = new ArrayList<>();
+            for (ProxyPointInterceptor<?> interceptor : interceptors) {
+                if (overrides(interceptor, "onBefore", LeetcodeJavaDebugEnhancer.class, ProxyPointParameterView.class)) {
+                    before.add(interceptor);
+                }
+                if (overrides(interceptor, "onAfter", LeetcodeJavaDebugEnhancer.class, Object.class)) {
+                    (interceptor.isObserveOnly() ? observing : after).add(interceptor);
+                }
+            }
+            this.point = point;
+            this.beforeHandlers = toArray(before);
+            this.afterHandlers = toArray(after);
+            this.observers = toArray(observing);
+            this.observerExecutor = observerExecutor;
+        }
+
+        /**
+         * Copy the interceptors into a handler array of the point result type.
+         */
+        @SuppressWarnings("unchecked")
+        private static <PointResult> ProxyPointInterceptor<PointResult>[] toArray(
+                List<ProxyPointInterceptor<?>> interceptors) {
+            return interceptors.toArray((ProxyPointInterceptor<PointResult>[]) new ProxyPointInterceptor<?>[0]);
+        }
+
+        /**
+         * Get the proxy point name.
+         *
+         * @return the point name.
+         */
+        public String getPoint() {
+            return point;
+        }
+
+        /**
+         * Check if any interceptor handles {@code onBefore}.
+         *
+         * @return true if any.
+         */
+        public boolean hasBefore() {
+            return beforeHandlers.length > 0;
+        }
+
+        /**
+         * Check if any interceptor handles {@code onAfter}.
+         *
+         * @return true if any.
+         */
+        public boolean hasAfter() {
+            return afterHandlers.length > 0 || observers.length > 0;
+        }
+
+        /**
+         * Dispatch {@code onBefore} to the interceptors in order.
+         *
+         * @param leetcodeJavaDebugEnhancer the LeetcodeJavaDebugEnhancer instance.
+         * @param parameterView             the proxy point parameter view.
+         */
+        public void before(LeetcodeJavaDebugEnhancer leetcodeJavaDebugEnhancer, ProxyPointParameterView parameterView) {
+            ProxyPointInterceptor<PointResult>[] handlers = beforeHandlers;
+            for (int i = 0; i < handlers.length; i++) {
+                handlers[i].onBefore(leetcodeJavaDebugEnhancer, parameterView);
+            }
+        }
+
+        /**
+         * Dispatch {@code onAfter} to the transforming interceptors in order,
+         * passing the processed result along, and then to the observers.
+         *
+         * @param leetcodeJavaDebugEnhancer the LeetcodeJavaDebugEnhancer instance.
+         * @param pointResult               the proxy point result.
+         * @return the processed proxy point result.
+         */
+        public PointResult after(LeetcodeJavaDebugEnhancer leetcodeJavaDebugEnhancer, PointResult pointResult) {
+            ProxyPointInterceptor<PointResult>[] handlers = afterHandlers;
+            for (int i = 0; i < handlers.length; i++) {
+                pointResult = handlers[i].onAfter(leetcodeJavaDebugEnhancer, pointResult);
+            }
+            if (observers.length > 0) {
+                if (Objects.isNull(observerExecutor)) {
+                    observe(leetcodeJavaDebugEnhancer, pointResult);
+                } else {
+                    PointResult result = StructUtil.deepCopy(pointResult);
+                    observerExecutor.execute(() -> observe(leetcodeJavaDebugEnhancer, result));
+                }
+            }
+            return pointResult;
+        }
+
+        private void observe(LeetcodeJavaDebugEnhancer leetcodeJavaDebugEnhancer, PointResult pointResult) {
+            ProxyPointInterceptor<PointResult>[] handlers = observers;
+            for (int i = 0; i < handlers.length; i++) {
+                handlers[i].onAfter(leetcodeJavaDebugEnhancer, pointResult);
+            }
+        }
+    }
+}
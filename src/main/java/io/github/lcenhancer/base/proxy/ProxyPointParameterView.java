@@ -17,8 +17,9 @@
 package io.github.lcenhancer.base.proxy;
 
 import io.github.lcenhancer.base.interfaces.ProxyPointInterceptor;
-import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.TypeUtil;
 
+import java.util.ArrayDeque;
 import java.util.Objects;
 
 /**
@@ -28,28 +29,56 @@ import java.util.Objects;
  * <p>ProxyPointParameterView is used for before-processing
  * on {@link ProxyPointInterceptor}.
  *
+ * <p>A view wraps the parameter types and the parameters without
+ * copying them. For the proxy points invoked on every test case,
+ * a view can be taken from the per-thread pool by
+ * {@link #obtain(Class[], Object[])} and given back by {@link #release()},
+ * and the primitive getters read the parameters without boxing, so
+ * the interceptors generate no garbage.
+ *
  * @author Jidcoo
  * @since 1.0.0
  */
 public final class ProxyPointParameterView {
 
+    /**
+     * The max count of the pooled views per thread.
+     */
+    private static final int MAX_POOLED_VIEWS = 16;
+
+    /**
+     * The per-thread pool of the released views.
+     */
+    private static final ThreadLocal<ArrayDeque<ProxyPointParameterView>> POOL =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
     /**
      * The parameter types.
      */
-    private final Class<?>[] types;
+    private Class<?>[] types;
 
     /**
      * The parameters.
      */
-    private final Object[] params;
+    private Object[] params;
 
     /**
      * The parameters size.
      */
-    private final int size;
+    private int size;
+
+    /**
+     * Whether the view is taken from the pool.
+     */
+    private boolean pooled;
 
     static final Object[] DEFAULT_NO_PARAM = new Object[0];
 
+    /**
+     * The types of the released views.
+     */
+    private static final Class<?>[] DEFAULT_NO_TYPE = new Class<?>[0];
+
     /**
      * Create a ProxyPointParameterView instance.
      *
@@ -57,15 +86,69 @@ public final class ProxyPointParameterView {
      * @param params the real params.
      */
     public ProxyPointParameterView(Class<?>[] types, Object[] params) {
-        AssertUtil.nonNull(types, "The param types cannot be null.");
+        reset(types, params);
+    }
+
+    /**
+     * Obtain a view from the pool of the current thread, wrapping
+     * the parameter types and the parameters without copying.
+     *
+     * <p>The view must be given back by {@link #release()} on the
+     * same thread after the interceptors have processed it.</p>
+     *
+     * @param types  the parameter types.
+     * @param params the real params.
+     * @return the pooled view.
+     */
+    public static ProxyPointParameterView obtain(Class<?>[] types, Object[] params) {
+        ProxyPointParameterView view = POOL.get().poll();
+        if (Objects.isNull(view)) {
+            view = new ProxyPointParameterView(types, params);
+        } else {
+            view.reset(types, params);
+        }
+        view.pooled = true;
+        return view;
+    }
+
+    /**
+     * Wrap other parameter types and parameters without copying.
+     *
+     * @param types  the parameter types.
+     * @param params the real params.
+     * @return this view.
+     */
+    public ProxyPointParameterView reset(Class<?>[] types, Object[] params) {
+        if (Objects.isNull(types)) {
+            throw new RuntimeException("The param types cannot be null.");
+        }
         if (Objects.isNull(params)) params = DEFAULT_NO_PARAM;
-        AssertUtil.isTrue(
-                types.length == params.length,
-                "The length of param types does not match the length of the params."
-        );
+        if (types.length != params.length) {
+            throw new RuntimeException("The length of param types does not match the length of the params: "
+                    + types.length + " != " + params.length + ".");
+        }
         this.types = types;
         this.params = params;
         this.size = types.length;
+        return this;
+    }
+
+    /**
+     * Release the view, dropping the wrapped arrays. A view taken
+     * by {@link #obtain(Class[], Object[])} is given back to the
+     * pool of the current thread.
+     */
+    public void release() {
+        this.types = DEFAULT_NO_TYPE;
+        this.params = DEFAULT_NO_PARAM;
+        this.size = 0;
+        if (pooled) {
+            pooled = false;
+            ArrayDeque<ProxyPointParameterView> pool = POOL.get();
+            if (pool.size() < MAX_POOLED_VIEWS) {
+                pool.push(this);
+            }
+        }
     }
 
     /**
@@ -84,7 +167,7 @@ public final class ProxyPointParameterView {
      * @return the parameter type.
      */
     public Class<?> getParameterType(int pos) {
-        AssertUtil.isTrue(pos >= 0 && pos < size, "Illegal parameter position.");
+        checkPosition(pos);
         return types[pos];
     }
 
@@ -95,21 +178,174 @@ public final class ProxyPointParameterView {
      * @return the parameter.
      */
     public Object getParameter(int pos) {
-        AssertUtil.isTrue(pos >= 0 && pos < size, "Illegal parameter position.");
+        checkPosition(pos);
         return params[pos];
     }
 
+    /**
+     * Return the int parameter at the specified position.
+     *
+     * @param pos the parameter position.
+     * @return the parameter.
+     */
+    public int getInt(int pos) {
+        return (int) integralParameter(pos, int.class);
+    }
+
+    /**
+     * Return the long parameter at the specified position.
+     *
+     * @param pos the parameter position.
+     * @return the parameter.
+     */
+    public long getLong(int pos) {
+        return integralParameter(pos, long.class);
+    }
+
+    /**
+     * Return the double parameter at the specified position.
+     *
+     * @param pos the parameter position.
+     * @return the parameter.
+     */
+    public double getDouble(int pos) {
+        Object value = primitiveParameter(pos, double.class);
+        return value instanceof Character ? (Character) value : ((Number) value).doubleValue();
+    }
+
+    /**
+     * Return the boolean parameter at the specified position.
+     *
+     * @param pos the parameter position.
+     * @return the parameter.
+     */
+    public boolean getBoolean(int pos) {
+        return (Boolean) primitiveParameter(pos, boolean.class);
+    }
+
+    /**
+     * Return the char parameter at the specified position.
+     *
+     * @param pos the parameter position.
+     * @return the parameter.
+     */
+    public char getChar(int pos) {
+        return (Character) primitiveParameter(pos, char.class);
+    }
+
     /**
      * Set parameter value for the specified location.
      *
+     * <p>The value must be assignable to the parameter type, as checked by
+     * {@link TypeUtil#isValueAssignable(Class, Class)}. For example, an
+     * {@link java.util.ArrayList} or any other list implementation can be
+     * set for a {@link java.util.List} parameter, and an {@link Integer}
+     * for an int or a long parameter. A primitive parameter cannot be null.</p>
+     *
      * @param pos   the parameter position.
      * @param value the parameter value.
      */
     public void setParameter(int pos, Object value) {
-        AssertUtil.isTrue(pos >= 0 && pos < size, "Illegal parameter position.");
-        if (Objects.nonNull(value)) {
-            AssertUtil.equals(value.getClass(), types[pos], "Illegal parameter value type.");
+        checkPosition(pos);
+        if (Objects.isNull(value)) {
+            if (types[pos].isPrimitive()) {
+                throw new RuntimeException("Illegal null value for the primitive parameter at position " + pos + ".");
+            }
+        } else if (!TypeUtil.isValueAssignable(types[pos], value.getClass())) {
+            throw illegalType(pos, value.getClass());
         }
         params[pos] = value;
     }
+
+    /**
+     * Set the int parameter value for the specified location.
+     * The values are boxed by {@link Integer#valueOf(int)}.
+     *
+     * @param pos   the parameter position.
+     * @param value the parameter value.
+     */
+    public void setInt(int pos, int value) {
+        checkPrimitiveType(pos, int.class, Integer.class);
+        params[pos] = value;
+    }
+
+    /**
+     * Set the long parameter value for the specified location.
+     * The values are boxed by {@link Long#valueOf(long)}.
+     *
+     * @param pos   the parameter position.
+     * @param value the parameter value.
+     */
+    public void setLong(int pos, long value) {
+        checkPrimitiveType(pos, long.class, Long.class);
+        params[pos] = value;
+    }
+
+    /**
+     * Set the double parameter value for the specified location.
+     *
+     * @param pos   the parameter position.
+     * @param value the parameter value.
+     */
+    public void setDouble(int pos, double value) {
+        checkPrimitiveType(pos, double.class, Double.class);
+        params[pos] = value;
+    }
+
+    /**
+     * Set the boolean parameter value for the specified location.
+     *
+     * @param pos   the parameter position.
+     * @param value the parameter value.
+     */
+    public void setBoolean(int pos, boolean value) {
+        checkPrimitiveType(pos, boolean.class, Boolean.class);
+        params[pos] = value;
+    }
+
+    /**
+     * Set the char parameter value for the specified location.
+     *
+     * @param pos   the parameter position.
+     * @param value the parameter value.
+     */
+    public void setChar(int pos, char value) {
+        checkPrimitiveType(pos, char.class, Character.class);
+        params[pos] = value;
+    }
+
+    // The checks below build their messages only when they fail.
+
+    private void checkPosition(int pos) {
+        if (pos < 0 || pos >= size) {
+            throw new RuntimeException("Illegal parameter position: " + pos + ", size: " + size + ".");
+        }
+    }
+
+    private Object primitiveParameter(int pos, Class<?> primitive) {
+        checkPosition(pos);
+        Object value = params[pos];
+        if (Objects.isNull(value) || !TypeUtil.isValueAssignable(primitive, value.getClass())) {
+            throw new RuntimeException("Illegal parameter value type at position " + pos + ": expected "
+                    + primitive.getName() + " but got " + (Objects.isNull(value) ? "null" : value.getClass().getName()) + ".");
+        }
+        return value;
+    }
+
+    private long integralParameter(int pos, Class<?> primitive) {
+        Object value = primitiveParameter(pos, primitive);
+        return value instanceof Character ? (Character) value : ((Number) value).longValue();
+    }
+
+    private void checkPrimitiveType(int pos, Class<?> primitive, Class<?> wrapper) {
+        checkPosition(pos);
+        if (types[pos] != primitive && types[pos] != wrapper) {
+            throw illegalType(pos, primitive);
+        }
+    }
+
+    private RuntimeException illegalType(int pos, Class<?> valueType) {
+        return new RuntimeException("Illegal parameter value type at position " + pos + ": expected "
+                + types[pos].getName() + " but got " + valueType.getName() + ".");
+    }
 }
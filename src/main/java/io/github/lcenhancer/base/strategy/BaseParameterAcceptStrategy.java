@@ -18,12 +18,18 @@ package io.github.lcenhancer.base.strategy;
 
 import io.github.lcenhancer.base.exception.ParameterAcceptStrategyExceptionTracer;
 import io.github.lcenhancer.base.interfaces.Strategizable;
+import io.github.lcenhancer.base.utils.StructUtil;
 import io.github.lcenhancer.base.utils.TypeUtil;
 
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <p>BaseParameterAcceptStrategy is an abstract class
@@ -44,6 +50,11 @@ import java.util.Stack;
 public abstract class BaseParameterAcceptStrategy<Parameter> implements Strategizable<Parameter,
         BaseParameterAcceptStrategy<?>, Parameter> {
 
+    /**
+     * The nesting depth of the accepting process on the current thread.
+     */
+    private static final ThreadLocal<int[]> ACCEPTING_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
     /**
      * Accept the object.
      *
@@ -63,6 +74,10 @@ public abstract class BaseParameterAcceptStrategy<Parameter> implements Strategi
     /**
      * Common accepting parameter function.
      *
+     * <p>Only the top-level call consults the {@link ParameterAcceptCache#of(Map) ParameterAcceptCache}
+     * carried by the strategies map, the nested calls accepting the elements
+     * of a parameter do not.</p>
+     *
      * @param strategies    the strategy set for parameter accepting.
      * @param parameterType the parameter type.
      * @param object        the parameter object.
@@ -71,6 +86,27 @@ public abstract class BaseParameterAcceptStrategy<Parameter> implements Strategi
     protected ParameterAcceptResult commonAcceptingFunction(Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> strategies,
                                                             Type parameterType,
                                                             Object object) {
+        // Reuse the parameter accepted from the same raw line if cached.
+        int[] depth = ACCEPTING_DEPTH.get();
+        ParameterAcceptCache cache = depth[0] == 0 ? ParameterAcceptCache.of(strategies) : null;
+        boolean cacheable = Objects.nonNull(cache) && cache.isCacheable(object);
+        if (cacheable) {
+            ParameterAcceptResult cached = cache.get((CharSequence) object, parameterType, strategies);
+            if (Objects.nonNull(cached)) {
+                return cached;
+            }
+        }
+        depth[0]++;
+        try {
+            return acceptUncached(strategies, parameterType, object, cacheable ? cache : null);
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    private ParameterAcceptResult acceptUncached(Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> strategies,
+                                                 Type parameterType, Object object, ParameterAcceptCache cache) {
+
         // Create a tracer stack for tracking the acceptance process.
         Stack<ParameterAcceptStrategyExceptionTracer> tracerStack = new Stack<>();
 
@@ -83,7 +119,11 @@ public abstract class BaseParameterAcceptStrategy<Parameter> implements Strategi
             for (BaseParameterAcceptStrategy<?> acceptStrategy : strategySet) {
                 try {
                     // Try to accept the parameter and return the accepted result.
-                    return ParameterAcceptResult.accept(acceptStrategy.accept(parameterType, object, strategies));
+                    Object accepted = acceptStrategy.accept(parameterType, object, strategies);
+                    if (Objects.nonNull(cache)) {
+                        cache.put((CharSequence) object, parameterType, strategies, accepted);
+                    }
+                    return ParameterAcceptResult.accept(accepted);
                 } catch (Throwable e) {
                     // Push the throwable with the object tracer into stack.
                     tracerStack.push(new ParameterAcceptStrategyExceptionTracer(acceptStrategy.getClass().getName(),
@@ -99,6 +139,84 @@ public abstract class BaseParameterAcceptStrategy<Parameter> implements Strategi
         return ParameterAcceptResult.reject(object, tracerStack);
     }
 
+    /**
+     * Common accepting function of the elements of a nested input, such
+     * as the rows of a <tt>List&lt;List&lt;Integer&gt;&gt;</tt> or an
+     * <tt>int[][]</tt>.
+     *
+     * <p>Each element is accepted by {@link #commonAcceptingFunction(Map, Type, Object)}.
+     * If the total element count estimated by
+     * {@link StructUtil#estimateTotalElements(Object, int, int)}, including the
+     * nested elements, reaches {@link #getParallelAcceptingThreshold()}, the
+     * elements are split into fork-join tasks on the common pool and accepted in
+     * parallel, so the strategies must be thread-safe. The accepted elements are
+     * always assembled in order.</p>
+     *
+     * @param strategies  the strategy set for parameter accepting.
+     * @param elementType the element type.
+     * @param elements    the element objects.
+     * @return the {@link ParameterAcceptResult} of the accepted element array
+     * in order, or the rejected result of a rejected element, which is the
+     * first one unless the elements are accepted in parallel.
+     */
+    protected ParameterAcceptResult commonAcceptingElements(Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> strategies,
+                                                            Type elementType,
+                                                            List<?> elements) {
+        int size = elements.size();
+        ParameterAcceptResult[] results = new ParameterAcceptResult[size];
+        if (StructUtil.estimateTotalElements(elements, 0, size) < getParallelAcceptingThreshold()) {
+            for (int i = 0; i < size; i++) {
+                results[i] = acceptNested(strategies, elementType, elements.get(i));
+                if (!results[i].isAccepted()) {
+                    return results[i];
+                }
+            }
+        } else {
+            Object[] snapshot = elements.toArray();
+            AcceptingTask task = new AcceptingTask(strategies, elementType, snapshot, results, 0, size,
+                    Math.max(1, size / (ForkJoinPool.getCommonPoolParallelism() * 8)), new AtomicBoolean());
+            ForkJoinPool.commonPool().invoke(task);
+            for (ParameterAcceptResult result : results) {
+                if (Objects.nonNull(result) && !result.isAccepted()) {
+                    return result;
+                }
+            }
+        }
+        Object[] accepted = new Object[size];
+        for (int i = 0; i < size; i++) {
+            accepted[i] = results[i].getObject();
+        }
+        return ParameterAcceptResult.accept(accepted);
+    }
+
+    /**
+     * Accept an element of a parameter as a nested call, which
+     * does not consult the {@link ParameterAcceptCache}.
+     */
+    private ParameterAcceptResult acceptNested(Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> strategies,
+                                               Type elementType, Object element) {
+        int[] depth = ACCEPTING_DEPTH.get();
+        depth[0]++;
+        try {
+            return commonAcceptingFunction(strategies, elementType, element);
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    /**
+     * Get the total element count, including the nested elements,
+     * from which the elements of a nested input are accepted in parallel.
+     * So a few huge rows are accepted in parallel too, while a long
+     * list of tiny elements is not worth the fork-join overhead.
+     *
+     * @return the threshold, 1024 by default.
+     * {@link Integer#MAX_VALUE} disables the parallel accepting.
+     */
+    protected int getParallelAcceptingThreshold() {
+        return 1024;
+    }
+
     /**
      * Accept object.
      *
@@ -113,6 +231,83 @@ public abstract class BaseParameterAcceptStrategy<Parameter> implements Strategi
         return acceptParameter(object, type, strategies);
     }
 
+    /**
+     * The fork-join task accepting a range of elements.
+     */
+    private final class AcceptingTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The strategy set for parameter accepting.
+         */
+        private final Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> strategies;
+
+        /**
+         * The element type.
+         */
+        private final Type elementType;
+
+        /**
+         * The element objects.
+         */
+        private final Object[] elements;
+
+        /**
+         * The accepting results, in the element order.
+         */
+        private final ParameterAcceptResult[] results;
+
+        /**
+         * The first element index, inclusive.
+         */
+        private final int from;
+
+        /**
+         * The last element index, exclusive.
+         */
+        private final int to;
+
+        /**
+         * The max element count accepted without splitting.
+         */
+        private final int grain;
+
+        /**
+         * Whether any element has been rejected, to skip the remaining ones.
+         */
+        private final AtomicBoolean rejected;
+
+        private AcceptingTask(Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> strategies, Type elementType,
+                              Object[] elements, ParameterAcceptResult[] results, int from, int to, int grain,
+                              AtomicBoolean rejected) {
+            this.strategies = strategies;
+            this.elementType = elementType;
+            this.elements = elements;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.rejected = rejected;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > grain) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new AcceptingTask(strategies, elementType, elements, results, from, middle, grain, rejected),
+                        new AcceptingTask(strategies, elementType, elements, results, middle, to, grain, rejected));
+                return;
+            }
+            for (int i = from; i < to && !rejected.get(); i++) {
+                results[i] = acceptNested(strategies, elementType, elements[i]);
+                if (!results[i].isAccepted()) {
+                    rejected.set(true);
+                }
+            }
+        }
+    }
+
     /**
      * <p>ParameterAcceptResults is a result class
      * that represents whether a parameter object
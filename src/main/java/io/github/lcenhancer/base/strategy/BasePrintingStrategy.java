@@ -16,11 +16,23 @@
 
 package io.github.lcenhancer.base.strategy;
 
+import io.github.lcenhancer.base.interfaces.OutputConsumer;
 import io.github.lcenhancer.base.interfaces.Strategizable;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StructUtil;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * <p>BasePrintingStrategy is an abstract class
@@ -50,9 +62,319 @@ public abstract class BasePrintingStrategy<Output> implements Strategizable<Outp
      */
     protected abstract String printOutput(Output output, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap);
 
+    /**
+     * Print the output object to an appendable, for the outputs too
+     * large to be materialized as a string.
+     *
+     * <p>The default implementation appends the result of
+     * {@link #printOutput(Object, Map)}. The strategies of large
+     * structures should override it to append the content in chunks
+     * as they walk the structure, with a constant extra memory, by
+     * {@link #commonPrintingFunction(Map, Object, Appendable)} and
+     * {@link #commonPrintingElements(Map, Object, String, String, String, Appendable)}.</p>
+     *
+     * @param output        the output object.
+     * @param strategiesMap the strategies that can be used during this printing process.
+     * @param appendable    the appendable.
+     * @throws IOException if the appendable fails.
+     */
+    protected void printOutput(Output output, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap,
+                               Appendable appendable) throws IOException {
+        appendable.append(printOutput(output, strategiesMap));
+    }
+
+    /**
+     * Common printing function of an object, printed by the first
+     * strategy of its strategy set that does not fail.
+     *
+     * @param strategies the strategies that can be used during this printing process.
+     * @param object     the object.
+     * @return the printed string content.
+     * @throws RuntimeException if no strategy can print the object.
+     */
+    @SuppressWarnings("unchecked")
+    protected String commonPrintingFunction(Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies, Object object) {
+        RuntimeException failure = null;
+        for (BasePrintingStrategy<?> strategy : findStrategySet(object, strategies)) {
+            try {
+                return ((BasePrintingStrategy<Object>) strategy).printOutput(object, strategies);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Common printing function of the elements of a list or an array,
+     * such as the rows of a <tt>List&lt;List&lt;String&gt;&gt;</tt> or an
+     * <tt>int[][]</tt>.
+     *
+     * <p>Each element is printed by {@link #commonPrintingFunction(Map, Object)}.
+     * If the total element count estimated by
+     * {@link StructUtil#estimateTotalElements(Object, int, int)}, including the
+     * nested elements, reaches {@link #getParallelPrintingThreshold()}, the
+     * elements are split into chunks printed into separate buffers by fork-join
+     * tasks on the common pool, so the strategies must be thread-safe. The chunks
+     * are always stitched together in order.</p>
+     *
+     * <p>The elements are capped by the {@link PrintingOptions#of(Map) PrintingOptions}
+     * carried by the strategies map,
+     * and the skipped elements are never visited.</p>
+     *
+     * @param strategies the strategies that can be used during this printing process.
+     * @param sequence   the list or the array.
+     * @param prefix     the prefix of the printed elements, like <tt>[</tt>.
+     * @param delimiter  the delimiter between the printed elements, like <tt>,</tt>.
+     * @param suffix     the suffix of the printed elements, like <tt>]</tt>.
+     * @return the printed string content.
+     */
+    protected String commonPrintingElements(Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies, Object sequence,
+                                            String prefix, String delimiter, String suffix) {
+        AssertUtil.isTrue(StructUtil.isSequence(sequence), "The sequence must be a list or an array.");
+        int size = StructUtil.sequenceSize(sequence);
+        PrintingOptions options = PrintingOptions.of(strategies);
+        int[] counts = Objects.isNull(options) ? new int[]{size, 0} : options.headAndTailElements(size);
+        int head = counts[0];
+        int tail = counts[1];
+        Object[] elements = null;
+        int tailFrom = size - tail;
+        if (sequence instanceof List) {
+            List<?> list = (List<?>) sequence;
+            if (head + tail == size) {
+                elements = list.toArray();
+            } else {
+                elements = Arrays.copyOf(list.subList(0, head).toArray(), head + tail);
+                System.arraycopy(list.subList(tailFrom, size).toArray(), 0, elements, head, tail);
+                tailFrom = head;
+            }
+        }
+        StringBuilder builder = new StringBuilder(prefix);
+        printElements(builder, strategies, sequence, elements, 0, head, delimiter);
+        if (head + tail < size) {
+            builder.append(head > 0 ? delimiter : "").append(PrintingOptions.moreMarker(size - head - tail))
+                    .append(tail > 0 ? delimiter : "");
+            printElements(builder, strategies, sequence, elements, tailFrom, tailFrom + tail, delimiter);
+        }
+        return builder.append(suffix).toString();
+    }
+
+    /**
+     * Common printing function of an object to an appendable, printed
+     * by the first strategy of its strategy set. Unlike
+     * {@link #commonPrintingFunction(Map, Object)}, there is no fallback
+     * to the next strategy, since the content may be partially appended.
+     *
+     * @param strategies the strategies that can be used during this printing process.
+     * @param object     the object.
+     * @param appendable the appendable.
+     * @throws IOException if the appendable fails.
+     */
+    @SuppressWarnings("unchecked")
+    protected void commonPrintingFunction(Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies, Object object,
+                                          Appendable appendable) throws IOException {
+        BasePrintingStrategy<Object> strategy = (BasePrintingStrategy<Object>)
+                findStrategySet(object, strategies).iterator().next();
+        strategy.printOutput(object, strategies, appendable);
+    }
+
+    /**
+     * Common printing function of the elements of a list or an array to an appendable.
+     * The elements are printed one by one in order by
+     * {@link #commonPrintingFunction(Map, Object, Appendable)}, without
+     * any intermediate buffer of the whole content.
+     *
+     * <p>The elements are capped by the {@link PrintingOptions#of(Map) PrintingOptions}
+     * carried by the strategies map,
+     * and the skipped elements are never visited.</p>
+     *
+     * @param strategies the strategies that can be used during this printing process.
+     * @param sequence   the list or the array.
+     * @param prefix     the prefix of the printed elements, like <tt>[</tt>.
+     * @param delimiter  the delimiter between the printed elements, like <tt>,</tt>.
+     * @param suffix     the suffix of the printed elements, like <tt>]</tt>.
+     * @param appendable the appendable.
+     * @throws IOException if the appendable fails.
+     */
+    protected void commonPrintingElements(Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies, Object sequence,
+                                          String prefix, String delimiter, String suffix,
+                                          Appendable appendable) throws IOException {
+        AssertUtil.isTrue(StructUtil.isSequence(sequence), "The sequence must be a list or an array.");
+        int size = StructUtil.sequenceSize(sequence);
+        PrintingOptions options = PrintingOptions.of(strategies);
+        int[] counts = Objects.isNull(options) ? new int[]{size, 0} : options.headAndTailElements(size);
+        int head = counts[0];
+        int tail = counts[1];
+        appendable.append(prefix);
+        printRange(appendable, strategies, sequence, 0, head, delimiter);
+        if (head + tail < size) {
+            appendable.append(head > 0 ? delimiter : "").append(PrintingOptions.moreMarker(size - head - tail))
+                    .append(tail > 0 ? delimiter : "");
+            printRange(appendable, strategies, sequence, size - tail, size, delimiter);
+        }
+        appendable.append(suffix);
+    }
+
+    /**
+     * Get the total element count, including the nested elements,
+     * from which the elements of a list or an array are printed in parallel.
+     * So a few huge rows are printed in parallel too, while a long
+     * list of tiny elements is not worth the fork-join overhead.
+     *
+     * @return the threshold, 1024 by default.
+     * {@link Integer#MAX_VALUE} disables the parallel printing.
+     */
+    protected int getParallelPrintingThreshold() {
+        return 1024;
+    }
+
+    private void printElements(StringBuilder builder, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies,
+                               Object sequence, Object[] elements, int from, int to, String delimiter) {
+        int count = to - from;
+        if (StructUtil.estimateTotalElements(Objects.nonNull(elements) ? elements : sequence, from, to)
+                < getParallelPrintingThreshold()) {
+            printRange(builder, strategies, sequence, elements, from, to, delimiter);
+            return;
+        }
+        int chunkSize = Math.max(1, count / (ForkJoinPool.getCommonPoolParallelism() * 8));
+        StringBuilder[] chunks = new StringBuilder[(count + chunkSize - 1) / chunkSize];
+        ForkJoinPool.commonPool().invoke(new PrintingTask(strategies, sequence, elements, delimiter,
+                chunks, chunkSize, from, to, 0, chunks.length));
+        int length = builder.length() + delimiter.length() * (chunks.length - 1);
+        for (StringBuilder chunk : chunks) {
+            length += chunk.length();
+        }
+        builder.ensureCapacity(length);
+        for (int i = 0; i < chunks.length; i++) {
+            builder.append(i > 0 ? delimiter : "").append(chunks[i]);
+        }
+    }
+
+    private void printRange(Appendable appendable, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies,
+                            Object sequence, int from, int to, String delimiter) throws IOException {
+        if (sequence instanceof List) {
+            Iterator<?> iterator = ((List<?>) sequence).listIterator(from);
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    appendable.append(delimiter);
+                }
+                commonPrintingFunction(strategies, iterator.next(), appendable);
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    appendable.append(delimiter);
+                }
+                commonPrintingFunction(strategies, Array.get(sequence, i), appendable);
+            }
+        }
+    }
+
+    private void printRange(StringBuilder builder, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies,
+                            Object sequence, Object[] elements, int from, int to, String delimiter) {
+        for (int i = from; i < to; i++) {
+            Object element = Objects.nonNull(elements) ? elements[i] : Array.get(sequence, i);
+            builder.append(i > from ? delimiter : "").append(commonPrintingFunction(strategies, element));
+        }
+    }
+
+    /**
+     * The fork-join task printing a range of element chunks.
+     */
+    private final class PrintingTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The strategies that can be used during this printing process.
+         */
+        private final Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies;
+
+        /**
+         * The list or the array.
+         */
+        private final Object sequence;
+
+        /**
+         * The list elements, null for an array.
+         */
+        private final Object[] elements;
+
+        /**
+         * The delimiter between the printed elements.
+         */
+        private final String delimiter;
+
+        /**
+         * The printed chunks.
+         */
+        private final StringBuilder[] chunks;
+
+        /**
+         * The element count of a chunk.
+         */
+        private final int chunkSize;
+
+        /**
+         * The first element index, inclusive.
+         */
+        private final int first;
+
+        /**
+         * The last element index, exclusive.
+         */
+        private final int last;
+
+        /**
+         * The first chunk index, inclusive.
+         */
+        private final int from;
+
+        /**
+         * The last chunk index, exclusive.
+         */
+        private final int to;
+
+        private PrintingTask(Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies, Object sequence,
+                             Object[] elements, String delimiter, StringBuilder[] chunks, int chunkSize,
+                             int first, int last, int from, int to) {
+            this.strategies = strategies;
+            this.sequence = sequence;
+            this.elements = elements;
+            this.delimiter = delimiter;
+            this.chunks = chunks;
+            this.chunkSize = chunkSize;
+            this.first = first;
+            this.last = last;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PrintingTask(strategies, sequence, elements, delimiter, chunks, chunkSize,
+                                first, last, from, middle),
+                        new PrintingTask(strategies, sequence, elements, delimiter, chunks, chunkSize,
+                                first, last, middle, to));
+                return;
+            }
+            int start = first + from * chunkSize;
+            StringBuilder chunk = new StringBuilder();
+            printRange(chunk, strategies, sequence, elements, start, Math.min(last, start + chunkSize), delimiter);
+            chunks[from] = chunk;
+        }
+    }
+
     /**
      * Accept object.
      *
+     * <p>If the {@link PrintingOptions#of(Map) PrintingOptions} carried by the
+     * strategies map caps the characters, the
+     * object is printed through {@link #printOutput(Object, Map, Appendable)}
+     * so that the printing stops as soon as the cap is reached.</p>
+     *
      * @param type       the object type.
      * @param object     the object.
      * @param strategies the strategies that can be used during the acceptance process.
@@ -61,6 +383,122 @@ public abstract class BasePrintingStrategy<Output> implements Strategizable<Outp
     @SuppressWarnings("unchecked")
     @Override
     public final String accept(Type type, Object object, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies) {
-        return printOutput((Output) object, strategies);
+        PrintingOptions options = PrintingOptions.of(strategies);
+        if (Objects.isNull(options) || options.getMaxCharacters() == Long.MAX_VALUE) {
+            return printOutput((Output) object, strategies);
+        }
+        StringBuilder builder = new StringBuilder();
+        accept(type, object, strategies, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Accept object and print it to an appendable in chunks.
+     *
+     * @param type       the object type.
+     * @param object     the object.
+     * @param strategies the strategies that can be used during the acceptance process.
+     * @param appendable the appendable.
+     */
+    @SuppressWarnings("unchecked")
+    public final void accept(Type type, Object object, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies,
+                             Appendable appendable) {
+        AssertUtil.nonNull(appendable, "The appendable cannot be null.");
+        PrintingOptions options = PrintingOptions.of(strategies);
+        try {
+            if (Objects.isNull(options) || options.getMaxCharacters() == Long.MAX_VALUE) {
+                printOutput((Output) object, strategies, appendable);
+                return;
+            }
+            try {
+                printOutput((Output) object, strategies, new LimitedAppendable(appendable, options.getMaxCharacters()));
+            } catch (LimitReachedException e) {
+                appendable.append(PrintingOptions.TRUNCATED_MARKER);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Accept object and stream it to an output consumer in chunks,
+     * through the writer of {@link OutputConsumer#openNextOutput()}.
+     *
+     * @param type       the object type.
+     * @param object     the object.
+     * @param strategies the strategies that can be used during the acceptance process.
+     * @param consumer   the output consumer.
+     */
+    public final void accept(Type type, Object object, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategies,
+                             OutputConsumer consumer) {
+        AssertUtil.nonNull(consumer, "The consumer cannot be null.");
+        try (Writer writer = consumer.openNextOutput()) {
+            accept(type, object, strategies, writer);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The appendable stopping the printing when its max characters are reached.
+     */
+    private static final class LimitedAppendable implements Appendable {
+
+        /**
+         * The target appendable.
+         */
+        private final Appendable appendable;
+
+        /**
+         * The remaining characters.
+         */
+        private long remaining;
+
+        private LimitedAppendable(Appendable appendable, long maxCharacters) {
+            this.appendable = appendable;
+            this.remaining = maxCharacters;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            CharSequence chars = Objects.isNull(csq) ? "null" : csq;
+            return append(chars, 0, chars.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            CharSequence chars = Objects.isNull(csq) ? "null" : csq;
+            if (end - start > remaining) {
+                appendable.append(chars, start, start + (int) remaining);
+                remaining = 0;
+                throw new LimitReachedException();
+            }
+            appendable.append(chars, start, end);
+            remaining -= end - start;
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (remaining == 0) {
+                throw new LimitReachedException();
+            }
+            appendable.append(c);
+            remaining--;
+            return this;
+        }
+    }
+
+    /**
+     * The exception unwinding the printing when the max characters are reached.
+     */
+    private static final class LimitReachedException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.strategy;
+
+import io.github.lcenhancer.base.interfaces.LeetcodeJavaDebugEnhancer;
+import io.github.lcenhancer.base.struct.ListNode;
+import io.github.lcenhancer.base.struct.TreeNode;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.StructUtil;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>ParameterAcceptCache caches the parameters accepted from raw
+ * input lines, so that the same huge input line accepted again by
+ * {@link BaseParameterAcceptStrategy#commonAcceptingFunction(Map, Type, Object)}
+ * is not parsed again.</p>
+ *
+ * <p>An accepted parameter is keyed by the target {@link Type}, the identity
+ * of the strategies map accepting it, and the length and two independent
+ * 64-bit hashes of the raw line. Only the whole input lines are cached, not
+ * the elements accepted while walking them, and only the lines at least as
+ * long as the min line length, since shorter ones are cheaper to parse than
+ * to hash and copy.</p>
+ *
+ * <p>Since solutions may mutate their inputs, the cache keeps a private
+ * deep copy of each parameter and every hit returns a fresh deep copy by
+ * {@link StructUtil#deepCopy(Object)}. Only the parameters made of strings,
+ * primitive wrappers, arrays, lists, sets, maps, {@link ListNode}s and
+ * {@link TreeNode}s are cached, and they are evicted in the least recently
+ * used order by their estimated retained bytes.</p>
+ *
+ * <p>The cache is opt-in: it is configured by
+ * {@link LeetcodeJavaDebugEnhancer#getParameterAcceptCache()}, and carried to the
+ * parameter accept strategies by the strategies map of their {@link StrategyRegistry},
+ * see {@link #of(Map)}. ParameterAcceptCache is thread-safe.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class ParameterAcceptCache {
+
+    /**
+     * The max total retained bytes of the cached parameters.
+     */
+    private final long maxRetainedBytes;
+
+    /**
+     * The cached parameters in access order.
+     */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The min length of the cached lines.
+     */
+    private volatile int minLineLength = 256;
+
+    /**
+     * The total retained bytes of the cached parameters.
+     */
+    private long retainedBytes = 0;
+
+    /**
+     * The count of the hits.
+     */
+    private long hits = 0;
+
+    /**
+     * The count of the misses.
+     */
+    private long misses = 0;
+
+    /**
+     * Create a ParameterAcceptCache.
+     *
+     * @param maxRetainedBytes the max total retained bytes of the cached parameters.
+     */
+    public ParameterAcceptCache(long maxRetainedBytes) {
+        AssertUtil.isTrue(maxRetainedBytes > 0, "The maxRetainedBytes must be positive.");
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    /**
+     * Get the parameter accept cache carried by a strategies map.
+     *
+     * @param strategies the strategies map passed to the parameter accept strategies.
+     * @return the cache, null if disabled or the map is not created
+     * by a {@link StrategyRegistry}.
+     */
+    public static ParameterAcceptCache of(Map<?, ?> strategies) {
+        return strategies instanceof StrategiesMap ? ((StrategiesMap<?>) strategies).getParameterAcceptCache() : null;
+    }
+
+    /**
+     * Set the min length of the cached lines.
+     *
+     * @param minLineLength the min line length, 256 by default.
+     */
+    public void setMinLineLength(int minLineLength) {
+        AssertUtil.isTrue(minLineLength >= 0, "The minLineLength cannot be negative.");
+        this.minLineLength = minLineLength;
+    }
+
+    /**
+     * Get the count of the hits.
+     *
+     * @return the hit count.
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Get the count of the misses of the cacheable lines.
+     *
+     * @return the miss count.
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Get the total retained bytes of the cached parameters.
+     *
+     * @return the estimated retained bytes.
+     */
+    public synchronized long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    /**
+     * Clear the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        retainedBytes = 0;
+    }
+
+    /**
+     * Check if the object is a raw line to cache.
+     *
+     * @param object the object to accept.
+     * @return true if cacheable.
+     */
+    boolean isCacheable(Object object) {
+        return object instanceof CharSequence && ((CharSequence) object).length() >= minLineLength;
+    }
+
+    /**
+     * Get a copy of the parameter accepted from the line.
+     *
+     * @param line       the raw line.
+     * @param type       the parameter type.
+     * @param strategies the strategies map accepting the line.
+     * @return the accepted result of the copy, null if missed.
+     */
+    BaseParameterAcceptStrategy.ParameterAcceptResult get(CharSequence line, Type type, Map<?, ?> strategies) {
+        Key key = new Key(line, type, strategies);
+        Object parameter;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (Objects.isNull(entry)) {
+                misses++;
+                return null;
+            }
+            hits++;
+            parameter = entry.parameter;
+        }
+        return BaseParameterAcceptStrategy.ParameterAcceptResult.accept(StructUtil.deepCopy(parameter));
+    }
+
+    /**
+     * Cache a copy of the parameter accepted from the line.
+     *
+     * @param line       the raw line.
+     * @param type       the parameter type.
+     * @param strategies the strategies map accepting the line.
+     * @param parameter  the accepted parameter.
+     */
+    void put(CharSequence line, Type type, Map<?, ?> strategies, Object parameter) {
+        long bytes = estimateRetainedBytes(parameter);
+        if (bytes < 0 || bytes > maxRetainedBytes) {
+            return;
+        }
+        Key key = new Key(line, type, strategies);
+        Entry entry = new Entry(StructUtil.deepCopy(parameter), bytes);
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            retainedBytes += bytes - (Objects.isNull(previous) ? 0 : previous.bytes);
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (retainedBytes > maxRetainedBytes && iterator.hasNext()) {
+                retainedBytes -= iterator.next().bytes;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Estimate the retained bytes of the parameter on a 64-bit JVM
+     * with compressed references.
+     *
+     * @param parameter the parameter.
+     * @return the estimated bytes, -1 if the parameter cannot be copied.
+     */
+    static long estimateRetainedBytes(Object parameter) {
+        long bytes = 0;
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> stack = new ArrayDeque<>();
+        if (Objects.nonNull(parameter)) {
+            stack.push(parameter);
+        }
+        while (!stack.isEmpty()) {
+            Object object = stack.pop();
+            if (!visited.add(object)) {
+                continue;
+            }
+            Class<?> klass = object.getClass();
+            if (object instanceof String) {
+                bytes += 40 + 2L * ((String) object).length();
+            } else if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+                bytes += 16;
+            } else if (klass.isArray()) {
+                int length = StructUtil.sequenceSize(object);
+                if (klass.getComponentType().isPrimitive()) {
+                    bytes += 16 + (long) length * primitiveSize(klass.getComponentType());
+                } else {
+                    bytes += 16 + 4L * length;
+                    pushAll(stack, (Object[]) object);
+                }
+            } else if (object instanceof List || object instanceof Set) {
+                bytes += 40 + 32L * ((Collection<?>) object).size();
+                for (Object element : (Collection<?>) object) {
+                    if (Objects.nonNull(element)) {
+                        stack.push(element);
+                    }
+                }
+            } else if (object instanceof Map) {
+                bytes += 48 + 40L * ((Map<?, ?>) object).size();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                    if (Objects.nonNull(entry.getKey())) {
+                        stack.push(entry.getKey());
+                    }
+                    if (Objects.nonNull(entry.getValue())) {
+                        stack.push(entry.getValue());
+                    }
+                }
+            } else if (object instanceof ListNode) {
+                bytes += 24;
+                if (Objects.nonNull(((ListNode) object).next)) {
+                    stack.push(((ListNode) object).next);
+                }
+            } else if (object instanceof TreeNode) {
+                bytes += 24;
+                TreeNode node = (TreeNode) object;
+                if (Objects.nonNull(node.left)) {
+                    stack.push(node.left);
+                }
+                if (Objects.nonNull(node.right)) {
+                    stack.push(node.right);
+                }
+            } else {
+                return -1;
+            }
+        }
+        return bytes;
+    }
+
+    private static void pushAll(Deque<Object> stack, Object[] array) {
+        for (Object element : array) {
+            if (Objects.nonNull(element)) {
+                stack.push(element);
+            }
+        }
+    }
+
+    private static int primitiveSize(Class<?> primitive) {
+        if (primitive == long.class || primitive == double.class) {
+            return 8;
+        }
+        if (primitive == int.class || primitive == float.class) {
+            return 4;
+        }
+        if (primitive == short.class || primitive == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * The cache key of a line, a parameter type and a strategies map.
+     */
+    private static final class Key {
+
+        /**
+         * The parameter type.
+         */
+        private final Type type;
+
+        /**
+         * The strategies map accepting the line, compared by identity.
+         */
+        private final Map<?, ?> strategies;
+
+        /**
+         * The line length.
+         */
+        private final int length;
+
+        /**
+         * The FNV-1a hash of the line.
+         */
+        private final long fnv;
+
+        /**
+         * The polynomial hash of the line.
+         */
+        private final long polynomial;
+
+        private Key(CharSequence line, Type type, Map<?, ?> strategies) {
+            long fnv = 0xCBF29CE484222325L;
+            long polynomial = 0;
+            for (int i = 0, length = line.length(); i < length; i++) {
+                char c = line.charAt(i);
+                fnv = (fnv ^ c) * 0x100000001B3L;
+                polynomial = polynomial * 0x9E3779B97F4A7C15L + c;
+            }
+            this.type = type;
+            this.strategies = strategies;
+            this.length = line.length();
+            this.fnv = fnv;
+            this.polynomial = polynomial;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return length == key.length && fnv == key.fnv && polynomial == key.polynomial
+                    && strategies == key.strategies && Objects.equals(type, key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((int) (fnv ^ (fnv >>> 32)) * 31 + type.hashCode()) * 31 + System.identityHashCode(strategies);
+        }
+    }
+
+    /**
+     * A cached parameter with its estimated retained bytes.
+     */
+    private static final class Entry {
+
+        /**
+         * The private copy of the parameter.
+         */
+        private final Object parameter;
+
+        /**
+         * The estimated retained bytes.
+         */
+        private final long bytes;
+
+        private Entry(Object parameter, long bytes) {
+            this.parameter = parameter;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.strategy;
+
+import io.github.lcenhancer.base.interfaces.LeetcodeJavaDebugEnhancer;
+import io.github.lcenhancer.base.utils.AssertUtil;
+
+import java.util.Map;
+
+/**
+ * <p>PrintingOptions limits the printing of enormous outputs, which
+ * are rarely read in full in an interactive session.</p>
+ *
+ * <p>The elements printed for each list or array are capped by the max
+ * elements, the skipped ones are rendered as a <tt>...(N more)</tt> marker,
+ * and the last tail elements can be sampled after the marker. The whole
+ * printed content is capped by the max characters, with a
+ * <tt>...(truncated)</tt> marker. The printing is lazy: the skipped
+ * elements are never visited by
+ * {@link BasePrintingStrategy#commonPrintingElements(Map, Object, String, String, String)},
+ * and the printing stops as soon as the max characters are reached.</p>
+ *
+ * <p>The options are configured by {@link LeetcodeJavaDebugEnhancer#getPrintingOptions()},
+ * and carried to the printing strategies by the strategies map of their
+ * {@link StrategyRegistry}, see {@link #of(Map)}. PrintingOptions is thread-safe.</p>
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class PrintingOptions {
+
+    /**
+     * The marker of the truncated characters.
+     */
+    static final String TRUNCATED_MARKER = "...(truncated)";
+
+    /**
+     * The max elements printed for each list or array.
+     */
+    private volatile int maxElements = Integer.MAX_VALUE;
+
+    /**
+     * The count of the tail elements sampled in the max elements.
+     */
+    private volatile int tailElements = 0;
+
+    /**
+     * The max characters of the whole printed content.
+     */
+    private volatile long maxCharacters = Long.MAX_VALUE;
+
+    /**
+     * Get the printing options carried by a strategies map.
+     *
+     * @param strategies the strategies map passed to the printing strategies.
+     * @return the printing options, null if unlimited or the map is not
+     * created by a {@link StrategyRegistry}.
+     */
+    public static PrintingOptions of(Map<?, ?> strategies) {
+        return strategies instanceof StrategiesMap ? ((StrategiesMap<?>) strategies).getPrintingOptions() : null;
+    }
+
+    /**
+     * Set the max elements printed for each list or array.
+     *
+     * @param maxElements the max elements, unlimited by default.
+     */
+    public void setMaxElements(int maxElements) {
+        AssertUtil.isTrue(maxElements >= 0, "The maxElements cannot be negative.");
+        this.maxElements = maxElements;
+    }
+
+    /**
+     * Get the max elements printed for each list or array.
+     *
+     * @return the max elements.
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    /**
+     * Set the count of the tail elements sampled in the max elements.
+     * For example, with 6 max elements and 2 tail elements, a list of
+     * 0 to 9 is printed as <tt>[0,1,2,3,...(4 more),8,9]</tt>.
+     *
+     * @param tailElements the tail element count, 0 by default.
+     */
+    public void setTailElements(int tailElements) {
+        AssertUtil.isTrue(tailElements >= 0, "The tailElements cannot be negative.");
+        this.tailElements = tailElements;
+    }
+
+    /**
+     * Get the count of the tail elements sampled in the max elements.
+     *
+     * @return the tail element count.
+     */
+    public int getTailElements() {
+        return tailElements;
+    }
+
+    /**
+     * Set the max characters of the whole printed content.
+     *
+     * @param maxCharacters the max characters, unlimited by default.
+     */
+    public void setMaxCharacters(long maxCharacters) {
+        AssertUtil.isTrue(maxCharacters >= 0, "The maxCharacters cannot be negative.");
+        this.maxCharacters = maxCharacters;
+    }
+
+    /**
+     * Get the max characters of the whole printed content.
+     *
+     * @return the max characters.
+     */
+    public long getMaxCharacters() {
+        return maxCharacters;
+    }
+
+    /**
+     * Get the counts of the head and the tail elements printed from a
+     * sequence. The options are read once, so the counts are consistent
+     * even if they are changed concurrently.
+     *
+     * @param size the sequence size.
+     * @return the head element count and the tail element count.
+     */
+    int[] headAndTailElements(int size) {
+        int max = maxElements;
+        if (size <= max) {
+            return new int[]{size, 0};
+        }
+        int tail = Math.min(tailElements, max);
+        return new int[]{max - tail, tail};
+    }
+
+    /**
+     * Get the marker of the skipped elements.
+     *
+     * @param skipped the skipped element count.
+     * @return the marker.
+     */
+    static String moreMarker(int skipped) {
+        return "...(" + skipped + " more)";
+    }
+}
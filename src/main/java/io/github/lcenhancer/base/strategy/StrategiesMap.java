@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.strategy;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>StrategiesMap is the immutable strategies map of a
+ * {@link StrategyRegistry.Snapshot}, which also carries the
+ * {@link PrintingOptions} and the {@link ParameterAcceptCache}
+ * of the registry.</p>
+ *
+ * <p>Since the same strategies map is passed down through every
+ * nested printing or accepting call, the strategies find the options
+ * of their own registry by {@link PrintingOptions#of(Map)} and
+ * {@link ParameterAcceptCache#of(Map)}, so that the registries of
+ * different enhancers never share them.</p>
+ *
+ * @param <Strategy> the strategy type.
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+final class StrategiesMap<Strategy> extends AbstractMap<Class<?>, Set<Strategy>> {
+
+    /**
+     * The unmodifiable strategy sets keyed by the acceptable type.
+     */
+    private final Map<Class<?>, Set<Strategy>> strategySets;
+
+    /**
+     * The printing options, null if unlimited.
+     */
+    private final PrintingOptions printingOptions;
+
+    /**
+     * The parameter accept cache, null if disabled.
+     */
+    private final ParameterAcceptCache parameterAcceptCache;
+
+    StrategiesMap(Map<Class<?>, Set<Strategy>> strategySets, PrintingOptions printingOptions,
+                  ParameterAcceptCache parameterAcceptCache) {
+        this.strategySets = strategySets;
+        this.printingOptions = printingOptions;
+        this.parameterAcceptCache = parameterAcceptCache;
+    }
+
+    /**
+     * Get the printing options.
+     *
+     * @return the printing options, null if unlimited.
+     */
+    PrintingOptions getPrintingOptions() {
+        return printingOptions;
+    }
+
+    /**
+     * Get the parameter accept cache.
+     *
+     * @return the parameter accept cache, null if disabled.
+     */
+    ParameterAcceptCache getParameterAcceptCache() {
+        return parameterAcceptCache;
+    }
+
+    @Override
+    public Set<Strategy> get(Object key) {
+        return strategySets.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return strategySets.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return strategySets.size();
+    }
+
+    @Override
+    public Set<Entry<Class<?>, Set<Strategy>>> entrySet() {
+        return strategySets.entrySet();
+    }
+}
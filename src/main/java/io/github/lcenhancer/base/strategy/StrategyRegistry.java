@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.strategy;
+
+import io.github.lcenhancer.base.interfaces.LeetcodeJavaDebugEnhancer;
+import io.github.lcenhancer.base.interfaces.Strategizable;
+import io.github.lcenhancer.base.utils.AssertUtil;
+import io.github.lcenhancer.base.utils.OrderUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>StrategyRegistry holds the strategies map passed to the strategies,
+ * keyed by the acceptable type of each strategy, with each strategy set
+ * sorted by {@link OrderUtil#descComparator()}, so that the strategy with
+ * the highest order comes first.</p>
+ *
+ * <p>The strategies map is held by an immutable, versioned {@link Snapshot}.
+ * Adding strategies at runtime publishes a new snapshot by copy-on-write,
+ * so the snapshots can be shared by parallel engines without any lock or
+ * defensive copy, and a printing or accepting process keeps a consistent
+ * view by reading the snapshot once. StrategyRegistry is thread-safe.</p>
+ *
+ * <p>The strategies map also carries the {@link PrintingOptions} or the
+ * {@link ParameterAcceptCache} of the registry to the strategies, see
+ * {@link PrintingOptions#of(Map)} and {@link ParameterAcceptCache#of(Map)}.</p>
+ *
+ * @param <Strategy> the strategy type.
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public final class StrategyRegistry<Strategy extends Strategizable<?, ?, ?>> {
+
+    /**
+     * The current snapshot.
+     */
+    private final AtomicReference<Snapshot<Strategy>> snapshot;
+
+    /**
+     * Create a StrategyRegistry.
+     *
+     * @param strategies the initial strategies, null for none.
+     */
+    public StrategyRegistry(List<? extends Strategy> strategies) {
+        this(strategies, null, null);
+    }
+
+    private StrategyRegistry(List<? extends Strategy> strategies, PrintingOptions printingOptions,
+                             ParameterAcceptCache parameterAcceptCache) {
+        this.snapshot = new AtomicReference<>(new Snapshot<>(0, Collections.emptyList(), strategies,
+                printingOptions, parameterAcceptCache));
+    }
+
+    /**
+     * Create a StrategyRegistry of the parameter accept strategies of an enhancer,
+     * with the parameter accept cache of the enhancer.
+     *
+     * @param enhancer the enhancer.
+     * @return the registry.
+     */
+    public static StrategyRegistry<BaseParameterAcceptStrategy<?>> ofParameterAcceptStrategies(
+            LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        return ofParameterAcceptStrategies(enhancer.getParameterAcceptStrategies(), enhancer.getParameterAcceptCache());
+    }
+
+    /**
+     * Create a StrategyRegistry of the parameter accept strategies.
+     *
+     * @param strategies the initial strategies, null for none.
+     * @param cache      the parameter accept cache, null to disable the caching.
+     * @return the registry.
+     */
+    public static StrategyRegistry<BaseParameterAcceptStrategy<?>> ofParameterAcceptStrategies(
+            List<? extends BaseParameterAcceptStrategy<?>> strategies, ParameterAcceptCache cache) {
+        return new StrategyRegistry<>(strategies, null, cache);
+    }
+
+    /**
+     * Create a StrategyRegistry of the output print strategies of an enhancer,
+     * with the printing options of the enhancer.
+     *
+     * @param enhancer the enhancer.
+     * @return the registry.
+     */
+    public static StrategyRegistry<BasePrintingStrategy<?>> ofOutputPrintStrategies(
+            LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        return ofOutputPrintStrategies(enhancer.getOutputPrintStrategies(), enhancer.getPrintingOptions());
+    }
+
+    /**
+     * Create a StrategyRegistry of the output print strategies.
+     *
+     * @param strategies the initial strategies, null for none.
+     * @param options    the printing options, null to print everything.
+     * @return the registry.
+     */
+    public static StrategyRegistry<BasePrintingStrategy<?>> ofOutputPrintStrategies(
+            List<? extends BasePrintingStrategy<?>> strategies, PrintingOptions options) {
+        return new StrategyRegistry<>(strategies, options, null);
+    }
+
+    /**
+     * Get the current snapshot.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot<Strategy> getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Get the strategies map of the current snapshot.
+     *
+     * @return the immutable strategies map.
+     */
+    public Map<Class<?>, Set<Strategy>> getStrategiesMap() {
+        return snapshot.get().getStrategiesMap();
+    }
+
+    /**
+     * Get the version of the current snapshot.
+     *
+     * @return the version, starting from 0.
+     */
+    public long getVersion() {
+        return snapshot.get().getVersion();
+    }
+
+    /**
+     * Add the strategies and publish a new snapshot. The processes
+     * reading an older snapshot are not affected.
+     *
+     * <p>Among the strategies with the same order, the added
+     * strategies come after the existing ones.</p>
+     *
+     * @param strategies the strategies to add.
+     * @return the new snapshot.
+     */
+    public Snapshot<Strategy> addStrategies(List<? extends Strategy> strategies) {
+        AssertUtil.notEmpty(strategies, "The strategies cannot be empty.");
+        while (true) {
+            Snapshot<Strategy> current = snapshot.get();
+            Snapshot<Strategy> next = new Snapshot<>(current.version + 1, current.strategies, strategies,
+                    current.strategiesMap.getPrintingOptions(), current.strategiesMap.getParameterAcceptCache());
+            if (snapshot.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * The immutable snapshot of the strategies.
+     *
+     * @param <Strategy> the strategy type.
+     */
+    public static final class Snapshot<Strategy extends Strategizable<?, ?, ?>> {
+
+        /**
+         * The snapshot version.
+         */
+        private final long version;
+
+        /**
+         * The strategies sorted by the descending order.
+         */
+        private final List<Strategy> strategies;
+
+        /**
+         * The strategies map keyed by the acceptable type.
+         */
+        private final StrategiesMap<Strategy> strategiesMap;
+
+        private Snapshot(long version, List<Strategy> existing, List<? extends Strategy> added,
+                         PrintingOptions printingOptions, ParameterAcceptCache parameterAcceptCache) {
+            List<Strategy> sorted = new ArrayList<>(existing);
+            if (Objects.nonNull(added)) {
+                for (Strategy strategy : added) {
+                    AssertUtil.nonNull(strategy, "The strategy cannot be null.");
+                    AssertUtil.nonNull(strategy.getAcceptableType(), "The acceptable type of strategy cannot be null: "
+                            + strategy.getClass().getName());
+                    sorted.add(strategy);
+                }
+            }
+            sorted.sort(OrderUtil.descComparator());
+            Map<Class<?>, Set<Strategy>> sets = new LinkedHashMap<>();
+            for (Strategy strategy : sorted) {
+                sets.computeIfAbsent(strategy.getAcceptableType(), type -> new LinkedHashSet<>()).add(strategy);
+            }
+            Map<Class<?>, Set<Strategy>> map = new HashMap<>(Math.max(16, sets.size() * 2));
+            for (Map.Entry<Class<?>, Set<Strategy>> entry : sets.entrySet()) {
+                map.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+            }
+            this.version = version;
+            this.strategies = Collections.unmodifiableList(sorted);
+            this.strategiesMap = new StrategiesMap<>(Collections.unmodifiableMap(map), printingOptions,
+                    parameterAcceptCache);
+        }
+
+        /**
+         * Get the snapshot version.
+         *
+         * @return the version.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Get the strategies sorted by the descending order.
+         *
+         * @return the immutable strategy list.
+         */
+        public List<Strategy> getStrategies() {
+            return strategies;
+        }
+
+        /**
+         * Get the strategies map keyed by the acceptable type, which can
+         * be passed to the strategies directly, carrying the printing
+         * options and the parameter accept cache of the registry.
+         *
+         * @return the immutable strategies map.
+         */
+        public Map<Class<?>, Set<Strategy>> getStrategiesMap() {
+            return strategiesMap;
+        }
+
+        /**
+         * Get the strategy set of an acceptable type.
+         *
+         * @param type the acceptable type.
+         * @return the immutable strategy set, empty if none.
+         */
+        public Set<Strategy> getStrategySet(Class<?> type) {
+            return strategiesMap.getOrDefault(type, Collections.emptySet());
+        }
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.utils;
+
+import io.github.lcenhancer.base.struct.ListNode;
+import io.github.lcenhancer.base.struct.TreeNode;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Common util for structural comparing and copying
+ * of leetcode arguments and results.
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public class StructUtil {
+
+    /**
+     * The marker of an absent child in the canonical walk of a tree.
+     */
+    private static final TreeNode ABSENT_TREE_NODE = new TreeNode();
+
+    /**
+     * Check if two objects are structurally equal.
+     *
+     * <p>Arrays, {@link Collection}s, {@link Map}s, {@link ListNode}s
+     * and {@link TreeNode}s are compared by their contents, other
+     * objects are compared by {@link Object#equals(Object)}.</p>
+     *
+     * @param o1 the object.
+     * @param o2 the object.
+     * @return true if the objects are structurally equal.
+     */
+    public static boolean deepEquals(Object o1, Object o2) {
+        return deepEquals(o1, o2, 0);
+    }
+
+    /**
+     * Check if two objects are structurally equal, ignoring the
+     * element order of the outermost lists and arrays.
+     *
+     * <p>For example, an <tt>unorderedDepth</tt> of 1 compares the
+     * outer list of a <tt>List&lt;List&lt;Integer&gt;&gt;</tt> as a
+     * multiset and the inner lists in order, while 2 compares both
+     * levels as multisets.</p>
+     *
+     * @param o1             the object.
+     * @param o2             the object.
+     * @param unorderedDepth the count of the outermost levels compared regardless of order.
+     * @return true if the objects are structurally equal.
+     */
+    public static boolean deepEquals(Object o1, Object o2, int unorderedDepth) {
+        if (o1 == o2) {
+            return true;
+        }
+        if (Objects.isNull(o1) || Objects.isNull(o2)) {
+            return false;
+        }
+        if (o1 instanceof ListNode && o2 instanceof ListNode) {
+            return listNodeEquals((ListNode) o1, (ListNode) o2);
+        }
+        if (o1 instanceof TreeNode && o2 instanceof TreeNode) {
+            return treeNodeEquals((TreeNode) o1, (TreeNode) o2);
+        }
+        if (isSequence(o1) && isSequence(o2)) {
+            int size = sequenceSize(o1);
+            if (size != sequenceSize(o2)) {
+                return false;
+            }
+            if (unorderedDepth > 0) {
+                return canonicalElements(o1, unorderedDepth - 1).equals(canonicalElements(o2, unorderedDepth - 1));
+            }
+            if (o1 instanceof List && o2 instanceof List) {
+                Iterator<?> it1 = ((List<?>) o1).iterator();
+                Iterator<?> it2 = ((List<?>) o2).iterator();
+                while (it1.hasNext()) {
+                    if (!deepEquals(it1.next(), it2.next(), 0)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (o1.getClass().isArray() && o2.getClass().isArray()) {
+                if (o1.getClass() == o2.getClass() && o1.getClass().getComponentType().isPrimitive()) {
+                    return Objects.deepEquals(o1, o2);
+                }
+                return arrayElementsEquals(o1, o2, size);
+            }
+            return false;
+        }
+        if (o1 instanceof Map && o2 instanceof Map) {
+            Map<?, ?> m1 = (Map<?, ?>) o1;
+            Map<?, ?> m2 = (Map<?, ?>) o2;
+            if (m1.size() != m2.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : m1.entrySet()) {
+                if (!m2.containsKey(entry.getKey()) || !deepEquals(entry.getValue(), m2.get(entry.getKey()), 0)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return o1.equals(o2);
+    }
+
+    /**
+     * Render the canonical string of the object, where the elements of
+     * the <tt>unorderedDepth</tt> outermost levels are sorted.
+     *
+     * <p>Two objects have the same canonical string if and only if they are
+     * structurally equal regardless of the order of those levels.</p>
+     *
+     * @param object         the object.
+     * @param unorderedDepth the count of the outermost levels rendered regardless of order.
+     * @return the canonical string.
+     */
+    public static String toCanonicalString(Object object, int unorderedDepth) {
+        StringBuilder builder = new StringBuilder();
+        appendCanonical(builder, object, unorderedDepth);
+        return builder.toString();
+    }
+
+    /**
+     * Create a structural deep copy of the object.
+     *
+     * <p>Arrays, {@link List}s, {@link Set}s, {@link Map}s,
+     * {@link ListNode}s (including cycles) and {@link TreeNode}s
+     * are copied, other objects are shared.</p>
+     *
+     * @param object the object.
+     * @return the deep copy.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T object) {
+        if (Objects.isNull(object)) {
+            return null;
+        }
+        Class<?> klass = object.getClass();
+        if (klass.isArray()) {
+            if (klass.getComponentType().isPrimitive()) {
+                int length = Array.getLength(object);
+                Object copy = Array.newInstance(klass.getComponentType(), length);
+                System.arraycopy(object, 0, copy, 0, length);
+                return (T) copy;
+            }
+            Object[] copy = ((Object[]) object).clone();
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = deepCopy(copy[i]);
+            }
+            return (T) copy;
+        }
+        if (object instanceof ListNode) {
+            return (T) copyListNode((ListNode) object);
+        }
+        if (object instanceof TreeNode) {
+            return (T) copyTreeNode((TreeNode) object);
+        }
+        if (object instanceof List) {
+            List<Object> copy = object instanceof LinkedList ? new LinkedList<>()
+                    : new ArrayList<>(((List<?>) object).size());
+            for (Object element : (List<?>) object) {
+                copy.add(deepCopy(element));
+            }
+            return (T) copy;
+        }
+        if (object instanceof Set) {
+            Set<Object> copy = object instanceof SortedSet
+                    ? new TreeSet<>(((SortedSet<Object>) object).comparator()) : new LinkedHashSet<>();
+            for (Object element : (Set<?>) object) {
+                copy.add(deepCopy(element));
+            }
+            return (T) copy;
+        }
+        if (object instanceof Map) {
+            Map<Object, Object> copy = object instanceof SortedMap
+                    ? new TreeMap<>(((SortedMap<Object, Object>) object).comparator()) : new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                copy.put(deepCopy(entry.getKey()), deepCopy(entry.getValue()));
+            }
+            return (T) copy;
+        }
+        return object;
+    }
+
+    /**
+     * Check if the object is a list or an array.
+     *
+     * @param object the object.
+     * @return true if the object is a list or an array.
+     */
+    public static boolean isSequence(Object object) {
+        return object instanceof List || (Objects.nonNull(object) && object.getClass().isArray());
+    }
+
+    /**
+     * Get the size of a list or an array.
+     *
+     * @param sequence the list or the array.
+     * @return the size.
+     */
+    public static int sequenceSize(Object sequence) {
+        return sequence instanceof List ? ((List<?>) sequence).size() : Array.getLength(sequence);
+    }
+
+    /**
+     * Estimate the total element count of a range of a list or an array,
+     * including the elements of the nested lists and arrays. The nested
+     * sizes are sampled along the first element of the range, so a
+     * <tt>int[100][10000]</tt> is estimated as 1000100 elements.
+     *
+     * @param sequence the list or the array.
+     * @param from     the first element index, inclusive.
+     * @param to       the last element index, exclusive.
+     * @return the estimated total element count.
+     */
+    public static long estimateTotalElements(Object sequence, int from, int to) {
+        if (to <= from) {
+            return 0;
+        }
+        long perElement = 1;
+        long nestedCount = 1;
+        Object nested = sequence instanceof List ? ((List<?>) sequence).get(from) : Array.get(sequence, from);
+        while (isSequence(nested) && nestedCount < Integer.MAX_VALUE) {
+            int size = sequenceSize(nested);
+            if (size == 0) {
+                break;
+            }
+            nestedCount *= size;
+            perElement += nestedCount;
+            nested = nested instanceof List ? ((List<?>) nested).get(0) : Array.get(nested, 0);
+        }
+        return (to - from) * perElement;
+    }
+
+    private static boolean arrayElementsEquals(Object a1, Object a2, int size) {
+        for (int i = 0; i < size; i++) {
+            if (!deepEquals(Array.get(a1, i), Array.get(a2, i), 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> canonicalElements(Object sequence, int unorderedDepth) {
+        List<String> elements = new ArrayList<>(sequenceSize(sequence));
+        if (sequence instanceof List) {
+            for (Object element : (List<?>) sequence) {
+                elements.add(toCanonicalString(element, unorderedDepth));
+            }
+        } else {
+            for (int i = 0, size = Array.getLength(sequence); i < size; i++) {
+                elements.add(toCanonicalString(Array.get(sequence, i), unorderedDepth));
+            }
+        }
+        Collections.sort(elements);
+        return elements;
+    }
+
+    private static void appendCanonical(StringBuilder builder, Object object, int unorderedDepth) {
+        if (isSequence(object)) {
+            builder.append('[');
+            if (unorderedDepth > 0) {
+                List<String> elements = canonicalElements(object, unorderedDepth - 1);
+                for (int i = 0; i < elements.size(); i++) {
+                    builder.append(i > 0 ? "," : "").append(elements.get(i));
+                }
+            } else if (object instanceof List) {
+                int i = 0;
+                for (Object element : (List<?>) object) {
+                    builder.append(i++ > 0 ? "," : "");
+                    appendCanonical(builder, element, 0);
+                }
+            } else {
+                for (int i = 0, size = Array.getLength(object); i < size; i++) {
+                    builder.append(i > 0 ? "," : "");
+                    appendCanonical(builder, Array.get(object, i), 0);
+                }
+            }
+            builder.append(']');
+        } else if (object instanceof ListNode) {
+            builder.append("L[");
+            Set<ListNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (ListNode node = (ListNode) object; Objects.nonNull(node); node = node.next) {
+                if (!visited.add(node)) {
+                    builder.append(",cycle@").append(node.val);
+                    break;
+                }
+                builder.append(visited.size() > 1 ? "," : "").append(node.val);
+            }
+            builder.append(']');
+        } else if (object instanceof TreeNode) {
+            builder.append("T[");
+            Deque<TreeNode> stack = new ArrayDeque<>();
+            stack.push((TreeNode) object);
+            // Pre-order with the null markers in visit order identifies the tree shape.
+            while (!stack.isEmpty()) {
+                TreeNode node = stack.pop();
+                if (node == ABSENT_TREE_NODE) {
+                    builder.append("#,");
+                    continue;
+                }
+                builder.append(node.val).append(',');
+                stack.push(Objects.isNull(node.right) ? ABSENT_TREE_NODE : node.right);
+                stack.push(Objects.isNull(node.left) ? ABSENT_TREE_NODE : node.left);
+            }
+            builder.append(']');
+        } else if (object instanceof CharSequence || object instanceof Character) {
+            builder.append('"');
+            CharSequence chars = object instanceof Character ? String.valueOf(object) : (CharSequence) object;
+            for (int i = 0; i < chars.length(); i++) {
+                char c = chars.charAt(i);
+                // Escape the delimiters so that no string can forge an element boundary.
+                builder.append(c == '"' || c == ',' || c == '\\' ? "\\" : "").append(c);
+            }
+            builder.append('"');
+        } else {
+            builder.append(object);
+        }
+    }
+
+    private static boolean listNodeEquals(ListNode l1, ListNode l2) {
+        Map<ListNode, Integer> pos1 = new IdentityHashMap<>();
+        Map<ListNode, Integer> pos2 = new IdentityHashMap<>();
+        int pos = 0;
+        while (Objects.nonNull(l1) && Objects.nonNull(l2)) {
+            Integer p1 = pos1.putIfAbsent(l1, pos);
+            Integer p2 = pos2.putIfAbsent(l2, pos);
+            if (Objects.nonNull(p1) || Objects.nonNull(p2)) {
+                // Both lists must enter the same cycle at the same position.
+                return Objects.equals(p1, p2);
+            }
+            if (l1.val != l2.val) {
+                return false;
+            }
+            l1 = l1.next;
+            l2 = l2.next;
+            pos++;
+        }
+        return Objects.isNull(l1) && Objects.isNull(l2);
+    }
+
+    private static boolean treeNodeEquals(TreeNode t1, TreeNode t2) {
+        Deque<TreeNode[]> stack = new ArrayDeque<>();
+        stack.push(new TreeNode[]{t1, t2});
+        while (!stack.isEmpty()) {
+            TreeNode[] pair = stack.pop();
+            if (pair[0] == pair[1]) {
+                continue;
+            }
+            if (Objects.isNull(pair[0]) || Objects.isNull(pair[1]) || pair[0].val != pair[1].val) {
+                return false;
+            }
+            stack.push(new TreeNode[]{pair[0].right, pair[1].right});
+            stack.push(new TreeNode[]{pair[0].left, pair[1].left});
+        }
+        return true;
+    }
+
+    private static ListNode copyListNode(ListNode head) {
+        Map<ListNode, ListNode> copies = new IdentityHashMap<>();
+        ListNode dummy = new ListNode();
+        ListNode tail = dummy;
+        for (ListNode node = head; Objects.nonNull(node); node = node.next) {
+            ListNode copy = copies.get(node);
+            if (Objects.nonNull(copy)) {
+                // Close the cycle on the copied node.
+                tail.next = copy;
+                break;
+            }
+            copy = new ListNode(node.val);
+            copies.put(node, copy);
+            tail.next = copy;
+            tail = copy;
+        }
+        return dummy.next;
+    }
+
+    private static TreeNode copyTreeNode(TreeNode root) {
+        TreeNode rootCopy = new TreeNode(root.val);
+        Deque<TreeNode[]> stack = new ArrayDeque<>();
+        stack.push(new TreeNode[]{root, rootCopy});
+        while (!stack.isEmpty()) {
+            TreeNode[] pair = stack.pop();
+            if (Objects.nonNull(pair[0].left)) {
+                pair[1].left = new TreeNode(pair[0].left.val);
+                stack.push(new TreeNode[]{pair[0].left, pair[1].left});
+            }
+            if (Objects.nonNull(pair[0].right)) {
+                pair[1].right = new TreeNode(pair[0].right.val);
+                stack.push(new TreeNode[]{pair[0].right, pair[1].right});
+            }
+        }
+        return rootCopy;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2025-2030 LcEnhancer(https://github.com/lcenhancer).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lcenhancer.base.utils;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Common thread util.
+ *
+ * @author Jidcoo
+ * @since 1.0.0
+ */
+public class ThreadUtil {
+
+    /**
+     * Create a thread factory for the daemon threads, so that
+     * the enhancer worker threads never keep the JVM alive.
+     *
+     * @param namePrefix the thread name prefix.
+     * @return the thread factory.
+     */
+    public static ThreadFactory newDaemonThreadFactory(String namePrefix) {
+        AssertUtil.notBlank(namePrefix, "The thread name prefix cannot be blank.");
+        AtomicInteger threadNumber = new AtomicInteger(0);
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -17,7 +17,14 @@
 package io.github.lcenhancer.base.utils;
 
 import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Java type util.
@@ -27,58 +34,291 @@ import java.util.List;
  */
 public class TypeUtil {
 
+    /**
+     * The primitive types by their wrapper types.
+     */
+    private static final Map<Class<?>, Class<?>> WRAPPER_TO_PRIMITIVE = new HashMap<>();
+
+    /**
+     * The primitive widening conversion ranks, from narrow to wide.
+     */
+    private static final Map<Class<?>, Integer> WIDENING_RANKS = new HashMap<>();
+
+    /**
+     * The cached value assignability by declared type, then by value type.
+     *
+     * <p>Each inner {@link ClassValue} is held by its declared type and stores
+     * the result on the value type, so neither class keeps the other loaded.</p>
+     */
+    private static final ClassValue<ClassValue<Boolean>> VALUE_ASSIGNABILITY = new ClassValue<ClassValue<Boolean>>() {
+        @Override
+        protected ClassValue<Boolean> computeValue(Class<?> declaredType) {
+            return new ClassValue<Boolean>() {
+                @Override
+                protected Boolean computeValue(Class<?> valueType) {
+                    return computeValueAssignable(declaredType, valueType);
+                }
+            };
+        }
+    };
+
+    /**
+     * The cached type arguments by generic supertype, then by raw class.
+     *
+     * <p>The type arguments are stored on the raw class in terms of its own
+     * type variables, so they only refer to the type hierarchy of the raw
+     * class, and the actual type arguments are substituted on each call.</p>
+     */
+    private static final ClassValue<ClassValue<Type[]>> TYPE_ARGUMENTS = new ClassValue<ClassValue<Type[]>>() {
+        @Override
+        protected ClassValue<Type[]> computeValue(Class<?> supertype) {
+            return new ClassValue<Type[]>() {
+                @Override
+                protected Type[] computeValue(Class<?> raw) {
+                    TypeVariable<?>[] variables = raw.getTypeParameters();
+                    Type type = variables.length == 0 ? raw
+                            : new ParameterizedTypeImpl(raw, raw.getDeclaringClass(), variables);
+                    return computeTypeArguments(type, supertype, Collections.emptyMap());
+                }
+            };
+        }
+    };
+
+    /**
+     * The cached type variable bindings by context class.
+     */
+    private static final ClassValue<Map<TypeVariable<?>, Type>> CONTEXT_BINDINGS = new ClassValue<Map<TypeVariable<?>, Type>>() {
+        @Override
+        protected Map<TypeVariable<?>, Type> computeValue(Class<?> contextClass) {
+            Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+            collectBindings(contextClass, bindings);
+            return Collections.unmodifiableMap(bindings);
+        }
+    };
+
+    /**
+     * The cached array classes by component class.
+     */
+    private static final ClassValue<Class<?>> ARRAY_CLASSES = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> componentType) {
+            return Array.newInstance(componentType, 0).getClass();
+        }
+    };
+
+    static {
+        WRAPPER_TO_PRIMITIVE.put(Boolean.class, boolean.class);
+        WRAPPER_TO_PRIMITIVE.put(Byte.class, byte.class);
+        WRAPPER_TO_PRIMITIVE.put(Short.class, short.class);
+        WRAPPER_TO_PRIMITIVE.put(Character.class, char.class);
+        WRAPPER_TO_PRIMITIVE.put(Integer.class, int.class);
+        WRAPPER_TO_PRIMITIVE.put(Long.class, long.class);
+        WRAPPER_TO_PRIMITIVE.put(Float.class, float.class);
+        WRAPPER_TO_PRIMITIVE.put(Double.class, double.class);
+        WIDENING_RANKS.put(byte.class, 1);
+        WIDENING_RANKS.put(short.class, 2);
+        WIDENING_RANKS.put(char.class, 2);
+        WIDENING_RANKS.put(int.class, 3);
+        WIDENING_RANKS.put(long.class, 4);
+        WIDENING_RANKS.put(float.class, 5);
+        WIDENING_RANKS.put(double.class, 6);
+    }
+
+    /**
+     * Check if a non-null value of the value type can be passed as the
+     * declared type by reflection, that is, the declared type is assignable
+     * from the value type, or the declared type is primitive and the value
+     * type is its wrapper or the wrapper of a narrower primitive type.
+     *
+     * <p>The results are cached per (declared type, value type) pair.</p>
+     *
+     * @param declaredType the declared type.
+     * @param valueType    the value type.
+     * @return true if the value is assignable.
+     */
+    public static boolean isValueAssignable(Class<?> declaredType, Class<?> valueType) {
+        if (declaredType == valueType) {
+            return true;
+        }
+        return VALUE_ASSIGNABILITY.get(declaredType).get(valueType);
+    }
+
+    private static boolean computeValueAssignable(Class<?> declaredType, Class<?> valueType) {
+        if (!declaredType.isPrimitive()) {
+            return declaredType.isAssignableFrom(valueType);
+        }
+        Class<?> valuePrimitive = WRAPPER_TO_PRIMITIVE.get(valueType);
+        if (Objects.isNull(valuePrimitive)) {
+            return false;
+        }
+        if (valuePrimitive == declaredType) {
+            return true;
+        }
+        Integer from = WIDENING_RANKS.get(valuePrimitive);
+        Integer to = WIDENING_RANKS.get(declaredType);
+        // The char and short are not widened into each other, and nothing is widened into char.
+        return Objects.nonNull(from) && Objects.nonNull(to) && from < to && declaredType != char.class
+                && !(valuePrimitive == char.class && declaredType == short.class);
+    }
+
     /**
      * Obtain list element type from a {@link List} type.
      *
+     * <p>The element type is resolved through the type hierarchy, so
+     * that it is also obtained from a subclass like
+     * <tt>class IntList extends ArrayList&lt;Integer&gt;</tt>.</p>
+     *
      * @param listType a {@link List} type.
      * @return the list element type.
      */
     public static Type obtainListElementType(Type listType) {
-        if (listType instanceof ParameterizedType) {
-            ParameterizedType pt = (ParameterizedType) listType;
-            Type rawType = pt.getRawType();
+        if (!(listType instanceof Class || listType instanceof ParameterizedType)
+                || !List.class.isAssignableFrom(obtainRawTypeOfType(listType))) {
+            throw new IllegalArgumentException("The type must be a java.util.List type.");
+        }
+        return obtainTypeArguments(listType, List.class)[0];
+    }
+
+    /**
+     * Obtain the element type from a {@link Collection} type, such as
+     * a {@link List}, a {@link java.util.Set} or a {@link java.util.Deque}.
+     *
+     * @param collectionType a {@link Collection} type.
+     * @return the element type.
+     */
+    public static Type obtainCollectionElementType(Type collectionType) {
+        return obtainTypeArguments(collectionType, Collection.class)[0];
+    }
 
-            AssertUtil.isTrue((rawType instanceof Class && List.class.isAssignableFrom((Class<?>) rawType)),
-                    "The type must be a java.util.List type.");
+    /**
+     * Obtain the key type from a {@link Map} type.
+     *
+     * @param mapType a {@link Map} type.
+     * @return the key type.
+     */
+    public static Type obtainMapKeyType(Type mapType) {
+        return obtainTypeArguments(mapType, Map.class)[0];
+    }
 
-            Type[] typeArgs = pt.getActualTypeArguments();
-            if (typeArgs.length == 0) {
-                return Object.class;
-            }
+    /**
+     * Obtain the value type from a {@link Map} type.
+     *
+     * @param mapType a {@link Map} type.
+     * @return the value type.
+     */
+    public static Type obtainMapValueType(Type mapType) {
+        return obtainTypeArguments(mapType, Map.class)[1];
+    }
 
-            Type firstArg = typeArgs[0];
-            if (firstArg instanceof WildcardType) {
-                WildcardType wt = (WildcardType) firstArg;
-                Type[] upperBounds = wt.getUpperBounds();
-                return upperBounds.length > 0 ? upperBounds[0] : Object.class;
-            }
-            return firstArg;
-        } else if (listType instanceof Class && List.class.isAssignableFrom((Class<?>) listType)) {
-            return Object.class;
+    /**
+     * Obtain the component type from an array type, including
+     * the generic array types like <tt>List&lt;Integer&gt;[]</tt>.
+     *
+     * @param arrayType an array type.
+     * @return the component type.
+     */
+    public static Type obtainArrayComponentType(Type arrayType) {
+        if (arrayType instanceof GenericArrayType) {
+            return ((GenericArrayType) arrayType).getGenericComponentType();
+        }
+        if (arrayType instanceof Class && ((Class<?>) arrayType).isArray()) {
+            return ((Class<?>) arrayType).getComponentType();
+        }
+        throw new IllegalArgumentException("The type must be an array type: " + arrayType);
+    }
+
+    /**
+     * Obtain the type arguments of a generic supertype as seen from the type.
+     *
+     * <p>For example, the type arguments of {@link Map} from
+     * <tt>HashMap&lt;String, List&lt;Integer&gt;&gt;</tt> are <tt>String</tt>
+     * and <tt>List&lt;Integer&gt;</tt>. The type variables bound through the
+     * type hierarchy are substituted, the wildcards are replaced by their upper
+     * bounds, and the type variables left unbound by a raw type are erased to
+     * their raw bounds. See {@link #resolveType(Type, Class)} for the type
+     * variables bound by an enclosing context.</p>
+     *
+     * <p>The type arguments of each raw class are cached.</p>
+     *
+     * @param type      the type.
+     * @param supertype the generic supertype.
+     * @return the type arguments of the supertype.
+     */
+    public static Type[] obtainTypeArguments(Type type, Class<?> supertype) {
+        AssertUtil.nonNull(type, "The type cannot be null.");
+        AssertUtil.nonNull(supertype, "The supertype cannot be null.");
+        Class<?> raw = obtainRawTypeOfType(type);
+        if (!supertype.isAssignableFrom(raw)) {
+            throw new IllegalArgumentException("The type must be a " + supertype.getName() + " type: " + type);
+        }
+        Type[] template = TYPE_ARGUMENTS.get(supertype).get(raw);
+        TypeVariable<?>[] variables = raw.getTypeParameters();
+        if (variables.length == 0) {
+            return template.clone();
+        }
+        Type[] actualArguments = type instanceof ParameterizedType
+                ? ((ParameterizedType) type).getActualTypeArguments() : new Type[0];
+        Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        for (int i = 0; i < variables.length; i++) {
+            bindings.put(variables[i], i < actualArguments.length
+                    ? substitute(actualArguments[i], Collections.emptyMap(), true) : obtainRawTypeOfType(variables[i]));
+        }
+        Type[] arguments = new Type[template.length];
+        for (int i = 0; i < template.length; i++) {
+            arguments[i] = substitute(template[i], bindings, true);
+        }
+        return arguments;
+    }
+
+    /**
+     * Resolve the type variables in the type that are bound through
+     * the type hierarchy of the context class.
+     *
+     * <p>For example, the parameter type <tt>T</tt> of a method declared in
+     * <tt>class Base&lt;T&gt;</tt> is resolved to <tt>Integer</tt> with the
+     * context class <tt>class Solution extends Base&lt;Integer&gt;</tt>.
+     * The unbound type variables are kept.</p>
+     *
+     * <p>The type variable bindings of each context class are cached.</p>
+     *
+     * @param type         the type.
+     * @param contextClass the context class.
+     * @return the resolved type.
+     */
+    public static Type resolveType(Type type, Class<?> contextClass) {
+        AssertUtil.nonNull(type, "The type cannot be null.");
+        AssertUtil.nonNull(contextClass, "The contextClass cannot be null.");
+        if (type instanceof Class) {
+            return type;
         }
-        throw new IllegalArgumentException("The type must be a java.util.List type.");
+        return substitute(type, CONTEXT_BINDINGS.get(contextClass), false);
     }
 
     /**
      * Obtain raw type from the specified type.
      *
+     * <p>A type variable is erased to the raw type of its first bound.
+     * The array classes of the generic array types are cached.</p>
+     *
      * @param type the specified type.
      * @return the raw type of the specified type.
      */
     public static Class<?> obtainRawTypeOfType(Type type) {
         if (type instanceof Class) {
             return (Class<?>) type;
-        } else if (type instanceof ParameterizedType) {
+        }
+        AssertUtil.nonNull(type, "The type cannot be null.");
+        if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
             Type rawType = parameterizedType.getRawType();
             return obtainRawTypeOfType(rawType);
         } else if (type instanceof GenericArrayType) {
             GenericArrayType arrayType = (GenericArrayType) type;
             Type componentType = arrayType.getGenericComponentType();
-            Class<?> componentRawType = obtainRawTypeOfType(componentType);
-            return Array.newInstance(componentRawType, 0).getClass();
+            return ARRAY_CLASSES.get(obtainRawTypeOfType(componentType));
         } else if (type instanceof TypeVariable) {
-            return Object.class;
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length > 0 ? obtainRawTypeOfType(bounds[0]) : Object.class;
         } else if (type instanceof WildcardType) {
             WildcardType wildcardType = (WildcardType) type;
             Type[] upperBounds = wildcardType.getUpperBounds();
@@ -86,4 +326,279 @@ public class TypeUtil {
         }
         throw new IllegalArgumentException("Cannot obtain raw type: " + type);
     }
+
+    private static Type[] computeTypeArguments(Type type, Class<?> supertype, Map<TypeVariable<?>, Type> bindings) {
+        Class<?> raw = obtainRawTypeOfType(type);
+        Map<TypeVariable<?>, Type> ownBindings = new HashMap<>();
+        TypeVariable<?>[] variables = raw.getTypeParameters();
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            for (int i = 0; i < variables.length && i < arguments.length; i++) {
+                ownBindings.put(variables[i], substitute(arguments[i], bindings, true));
+            }
+        }
+        if (raw == supertype) {
+            Type[] result = new Type[variables.length];
+            for (int i = 0; i < variables.length; i++) {
+                Type bound = ownBindings.get(variables[i]);
+                result[i] = Objects.isNull(bound) ? obtainRawTypeOfType(variables[i]) : bound;
+            }
+            return result;
+        }
+        List<Type> supertypes = new ArrayList<>(Arrays.asList(raw.getGenericInterfaces()));
+        if (Objects.nonNull(raw.getGenericSuperclass())) {
+            supertypes.add(0, raw.getGenericSuperclass());
+        }
+        for (Type next : supertypes) {
+            if (supertype.isAssignableFrom(obtainRawTypeOfType(next))) {
+                return computeTypeArguments(next, supertype, ownBindings);
+            }
+        }
+        throw new IllegalArgumentException("Cannot obtain the type arguments of " + supertype.getName() + " from " + type);
+    }
+
+    private static void collectBindings(Class<?> klass, Map<TypeVariable<?>, Type> bindings) {
+        List<Type> supertypes = new ArrayList<>(Arrays.asList(klass.getGenericInterfaces()));
+        if (Objects.nonNull(klass.getGenericSuperclass())) {
+            supertypes.add(klass.getGenericSuperclass());
+        }
+        for (Type supertype : supertypes) {
+            Class<?> raw = obtainRawTypeOfType(supertype);
+            if (supertype instanceof ParameterizedType) {
+                TypeVariable<?>[] variables = raw.getTypeParameters();
+                Type[] arguments = ((ParameterizedType) supertype).getActualTypeArguments();
+                for (int i = 0; i < variables.length && i < arguments.length; i++) {
+                    bindings.put(variables[i], substitute(arguments[i], bindings, false));
+                }
+            }
+            collectBindings(raw, bindings);
+        }
+    }
+
+    /**
+     * Substitute the bound type variables in the type.
+     *
+     * @param type            the type.
+     * @param bindings        the type variable bindings.
+     * @param eraseWildcards  true to replace the wildcards by their upper bounds.
+     * @return the substituted type.
+     */
+    private static Type substitute(Type type, Map<TypeVariable<?>, Type> bindings, boolean eraseWildcards) {
+        if (type instanceof TypeVariable) {
+            Type bound = bindings.get(type);
+            return Objects.isNull(bound) ? type : bound;
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            Type[] upperBounds = wildcardType.getUpperBounds();
+            if (eraseWildcards) {
+                return upperBounds.length > 0 ? substitute(upperBounds[0], bindings, true) : Object.class;
+            }
+            Type[] lowerBounds = wildcardType.getLowerBounds();
+            Type[] substitutedUpper = substituteAll(upperBounds, bindings);
+            Type[] substitutedLower = substituteAll(lowerBounds, bindings);
+            return substitutedUpper == upperBounds && substitutedLower == lowerBounds ? type
+                    : new WildcardTypeImpl(substitutedUpper, substitutedLower);
+        }
+        if (type instanceof GenericArrayType) {
+            Type component = ((GenericArrayType) type).getGenericComponentType();
+            Type substituted = substitute(component, bindings, eraseWildcards);
+            if (substituted == component) {
+                return type;
+            }
+            return substituted instanceof Class ? ARRAY_CLASSES.get((Class<?>) substituted)
+                    : new GenericArrayTypeImpl(substituted);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            Type[] substituted = new Type[arguments.length];
+            boolean changed = false;
+            for (int i = 0; i < arguments.length; i++) {
+                substituted[i] = substitute(arguments[i], bindings, eraseWildcards);
+                changed |= substituted[i] != arguments[i];
+            }
+            return changed ? new ParameterizedTypeImpl(parameterizedType.getRawType(),
+                    parameterizedType.getOwnerType(), substituted) : type;
+        }
+        return type;
+    }
+
+    /**
+     * Substitute the bound type variables in the types.
+     *
+     * @return the substituted types, or the same array if nothing is substituted.
+     */
+    private static Type[] substituteAll(Type[] types, Map<TypeVariable<?>, Type> bindings) {
+        Type[] substituted = types;
+        for (int i = 0; i < types.length; i++) {
+            Type type = substitute(types[i], bindings, false);
+            if (type != types[i]) {
+                if (substituted == types) {
+                    substituted = types.clone();
+                }
+                substituted[i] = type;
+            }
+        }
+        return substituted;
+    }
+
+    /**
+     * The substituted {@link ParameterizedType}, equal to the JDK
+     * implementation of the same type.
+     */
+    private static final class ParameterizedTypeImpl implements ParameterizedType {
+
+        /**
+         * The raw type.
+         */
+        private final Type rawType;
+
+        /**
+         * The owner type.
+         */
+        private final Type ownerType;
+
+        /**
+         * The type arguments.
+         */
+        private final Type[] actualTypeArguments;
+
+        private ParameterizedTypeImpl(Type rawType, Type ownerType, Type[] actualTypeArguments) {
+            this.rawType = rawType;
+            this.ownerType = ownerType;
+            this.actualTypeArguments = actualTypeArguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return actualTypeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType that = (ParameterizedType) o;
+            return Objects.equals(rawType, that.getRawType()) && Objects.equals(ownerType, that.getOwnerType())
+                    && Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(rawType.getTypeName()).append('<');
+            for (int i = 0; i < actualTypeArguments.length; i++) {
+                builder.append(i > 0 ? ", " : "").append(actualTypeArguments[i].getTypeName());
+            }
+            return builder.append('>').toString();
+        }
+    }
+
+    /**
+     * The substituted {@link WildcardType}, equal to the JDK
+     * implementation of the same type.
+     */
+    private static final class WildcardTypeImpl implements WildcardType {
+
+        /**
+         * The upper bounds.
+         */
+        private final Type[] upperBounds;
+
+        /**
+         * The lower bounds.
+         */
+        private final Type[] lowerBounds;
+
+        private WildcardTypeImpl(Type[] upperBounds, Type[] lowerBounds) {
+            this.upperBounds = upperBounds;
+            this.lowerBounds = lowerBounds;
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof WildcardType)) {
+                return false;
+            }
+            WildcardType that = (WildcardType) o;
+            return Arrays.equals(lowerBounds, that.getLowerBounds()) && Arrays.equals(upperBounds, that.getUpperBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(upperBounds);
+        }
+
+        @Override
+        public String toString() {
+            if (lowerBounds.length > 0) {
+                return "? super " + lowerBounds[0].getTypeName();
+            }
+            return upperBounds.length == 0 || upperBounds[0] == Object.class ? "?"
+                    : "? extends " + upperBounds[0].getTypeName();
+        }
+    }
+
+    /**
+     * The substituted {@link GenericArrayType}, equal to the JDK
+     * implementation of the same type.
+     */
+    private static final class GenericArrayTypeImpl implements GenericArrayType {
+
+        /**
+         * The component type.
+         */
+        private final Type componentType;
+
+        private GenericArrayTypeImpl(Type componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return componentType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GenericArrayType
+                    && Objects.equals(componentType, ((GenericArrayType) o).getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(componentType);
+        }
+
+        @Override
+        public String toString() {
+            return componentType.getTypeName() + "[]";
+        }
+    }
 }